@@ -0,0 +1,120 @@
+-- 마이그레이션 변경 로그 (잠금 없는 복제 후 변경분 따라잡기용)
+-- 트리거는 여기서 만들지 않는다. app.redistribution.change-capture.enabled=true일 때만
+-- 애플리케이션이 시작 시 enable_migration_change_capture()로 Legacy에 설치하고,
+-- false이면 disable_migration_change_capture()로 트리거를 제거하고 로그를 비운다.
+
+-- 변경된 행의 페이지와 트랜잭션 ID를 기록
+CREATE TABLE migration_change_log (
+    id BIGSERIAL PRIMARY KEY,
+    page_id UUID NOT NULL,
+    table_name VARCHAR(30) NOT NULL,
+    operation CHAR(1) NOT NULL,
+    xid XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_migration_change_log_page_id
+ON migration_change_log (page_id);
+
+CREATE OR REPLACE FUNCTION record_migration_change() RETURNS TRIGGER AS $$
+DECLARE
+    changed_row RECORD;
+BEGIN
+    -- 마이그레이션 작업자가 쓴 행은 기록하지 않음 (ChangeLogJdbcRepository.markMigrationWrite)
+    IF current_setting('sharenote.migration_write', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        changed_row := OLD;
+    ELSE
+        changed_row := NEW;
+    END IF;
+
+    IF TG_TABLE_NAME = 'pages' THEN
+        -- 마이그레이션 상태 변경(migration_status, updated_at, migration_fence_token만 바뀐 경우)은 기록하지 않음
+        IF TG_OP = 'UPDATE'
+           AND (to_jsonb(NEW) - 'migration_status' - 'updated_at' - 'migration_fence_token')
+             = (to_jsonb(OLD) - 'migration_status' - 'updated_at' - 'migration_fence_token') THEN
+            RETURN NULL;
+        END IF;
+        INSERT INTO migration_change_log (page_id, table_name, operation)
+        VALUES (changed_row.id, TG_TABLE_NAME, left(TG_OP, 1));
+    ELSE
+        INSERT INTO migration_change_log (page_id, table_name, operation)
+        VALUES (changed_row.page_id, TG_TABLE_NAME, left(TG_OP, 1));
+        -- 다른 페이지로 옮겨진 행은 이전 페이지도 변경된 것으로 기록
+        IF TG_OP = 'UPDATE' AND NEW.page_id IS DISTINCT FROM OLD.page_id THEN
+            INSERT INTO migration_change_log (page_id, table_name, operation)
+            VALUES (OLD.page_id, TG_TABLE_NAME, 'U');
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 블록/권한을 페이지에 추가하기 전에 페이지별 전환 락을 공유 모드로 획득 (트랜잭션 종료 시 해제)
+-- 전환(ChangeLogJdbcRepository.lockPagesForCutover)은 같은 키를 배타 모드로 잡아 스냅샷 이후의 INSERT를 막는다.
+-- 행을 쓰기 전에 잡아야 전환이 잠근 행과 교차 대기하지 않으므로 BEFORE 트리거로 분리한다.
+CREATE OR REPLACE FUNCTION lock_migration_page() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR NEW.page_id IS DISTINCT FROM OLD.page_id THEN
+        PERFORM pg_advisory_xact_lock_shared(hashtext('migration_page'), hashtext(CAST(NEW.page_id AS TEXT)));
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 변경 로그/전환 락 트리거 설치 (없는 트리거만 생성, Legacy에서만 호출)
+CREATE OR REPLACE FUNCTION enable_migration_change_capture() RETURNS VOID AS $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_pages_change_log') THEN
+        CREATE TRIGGER trg_pages_change_log
+        AFTER INSERT OR UPDATE OR DELETE ON pages
+        FOR EACH ROW EXECUTE FUNCTION record_migration_change();
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_blocks_change_log') THEN
+        CREATE TRIGGER trg_blocks_change_log
+        AFTER INSERT OR UPDATE OR DELETE ON blocks
+        FOR EACH ROW EXECUTE FUNCTION record_migration_change();
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_page_permissions_change_log') THEN
+        CREATE TRIGGER trg_page_permissions_change_log
+        AFTER INSERT OR UPDATE OR DELETE ON page_permissions
+        FOR EACH ROW EXECUTE FUNCTION record_migration_change();
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_blocks_migration_lock') THEN
+        CREATE TRIGGER trg_blocks_migration_lock
+        BEFORE INSERT OR UPDATE OF page_id ON blocks
+        FOR EACH ROW EXECUTE FUNCTION lock_migration_page();
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_page_permissions_migration_lock') THEN
+        CREATE TRIGGER trg_page_permissions_migration_lock
+        BEFORE INSERT OR UPDATE OF page_id ON page_permissions
+        FOR EACH ROW EXECUTE FUNCTION lock_migration_page();
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 변경 로그/전환 락 트리거 제거 및 로그 정리 (트리거가 남아 있을 때만 테이블 락을 잡는다)
+CREATE OR REPLACE FUNCTION disable_migration_change_capture() RETURNS VOID AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_trigger WHERE tgname IN (
+            'trg_pages_change_log', 'trg_blocks_change_log', 'trg_page_permissions_change_log',
+            'trg_blocks_migration_lock', 'trg_page_permissions_migration_lock')) THEN
+        DROP TRIGGER IF EXISTS trg_pages_change_log ON pages;
+        DROP TRIGGER IF EXISTS trg_blocks_change_log ON blocks;
+        DROP TRIGGER IF EXISTS trg_page_permissions_change_log ON page_permissions;
+        DROP TRIGGER IF EXISTS trg_blocks_migration_lock ON blocks;
+        DROP TRIGGER IF EXISTS trg_page_permissions_migration_lock ON page_permissions;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM migration_change_log) THEN
+        TRUNCATE migration_change_log;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,14 @@
+-- 마이그레이션 펜싱 토큰 (락 유지시간을 넘겨 멈췄던 작업자의 늦은 쓰기 거부)
+
+-- 토큰 발급용 시퀀스 (Legacy에서만 사용)
+CREATE SEQUENCE migration_fencing_token_seq;
+
+-- Legacy: 페이지를 마지막으로 가져간 작업자의 토큰 (상태 변경/삭제 시 일치해야 함)
+ALTER TABLE pages ADD COLUMN migration_fence_token BIGINT;
+
+-- 샤드: 페이지별로 쓰기를 허용한 가장 큰 토큰 (더 작은 토큰의 쓰기는 거부)
+CREATE TABLE migration_fence (
+    page_id UUID PRIMARY KEY,
+    token BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,14 @@
+-- Legacy 블록/권한 → 페이지 외래키 (마이그레이션 전환 중 막혀 있던 INSERT가 삭제된 페이지에 남지 않도록)
+
+-- 기존 고아 행은 검사하지 않도록 NOT VALID로 추가 (새로 쓰는 행만 검사)
+-- 샤드는 묶음 복제 순서(COPY)에 제약을 두지 않기 위해 Legacy에만 생성
+DO $$
+BEGIN
+    IF current_database() = 'sharenote_legacy' THEN
+        ALTER TABLE blocks
+        ADD CONSTRAINT fk_blocks_page_id FOREIGN KEY (page_id) REFERENCES pages (id) NOT VALID;
+
+        ALTER TABLE page_permissions
+        ADD CONSTRAINT fk_page_permissions_page_id FOREIGN KEY (page_id) REFERENCES pages (id) NOT VALID;
+    END IF;
+END $$;
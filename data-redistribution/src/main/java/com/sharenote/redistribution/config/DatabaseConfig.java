@@ -1,11 +1,15 @@
 package com.sharenote.redistribution.config;
 
 import com.sharenote.redistribution.properties.DatabaseProperties;
+import com.sharenote.redistribution.service.shard.ShardRegistry;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +22,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Slf4j
@@ -44,6 +49,7 @@ public class DatabaseConfig {
         config.setIdleTimeout(hikariConfig.getIdleTimeout());
         config.setConnectionTimeout(hikariConfig.getConnectionTimeout());
         config.setLeakDetectionThreshold(hikariConfig.getLeakDetectionThreshold());
+        config.addDataSourceProperty("reWriteBatchedInserts", hikariConfig.isReWriteBatchedInserts());
 
         return config;
     }
@@ -117,99 +123,29 @@ public class DatabaseConfig {
 
 
     // ================================
-    // Shard1 DataSource 설정
+    // 샤드 DataSource 설정 (spring.datasource.shards)
     // ================================
 
     /**
-     * 샤드1 데이터소스 설정
+     * 샤드 레지스트리 - 설정의 샤드 항목마다 커넥션 풀을 만든다.
+     * 샤드 풀은 빈이 아니므로 풀 메트릭은 직접 등록한다.
      */
-    @Bean("shard1DataSource")
-    public DataSource shard1DataSource() {
-        DatabaseProperties.DataSourceConfig shard1Config = databaseProperties.getShard1();
-        HikariConfig config = createHikariConfig(shard1Config,"Shard1HikariPool");
-        log.info("Shard1 DataSource 초기화: {}", shard1Config.getUrl());
-        return new HikariDataSource(config);
-    }
-
-    /**
-     * Shard1 EntityManagerFactory
-     */
-    @Bean("shard1EntityManagerFactory")
-    public LocalContainerEntityManagerFactoryBean shard1EntityManagerFactory(
-            @Qualifier("shard1DataSource") DataSource shard1DataSource) {
-
-        HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
-        vendorAdapter.setGenerateDdl(false);
-        vendorAdapter.setShowSql(false);
-        vendorAdapter.setDatabase(Database.POSTGRESQL);
-
-        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
-        factory.setDataSource(shard1DataSource);
-        factory.setPackagesToScan("com.sharenote.redistribution.entity");
-        factory.setJpaVendorAdapter(vendorAdapter);
-        factory.setJpaPropertyMap(createJpaProperties());
-        factory.setPersistenceUnitName("shard1");
-
-        return factory;
-    }
-
-    /**
-     * Shard1 TransactionManager
-     */
-    @Bean("shard1TransactionManager")
-    public PlatformTransactionManager shard1TransactionManager(
-            @Qualifier("shard1EntityManagerFactory") EntityManagerFactory shard1EntityManagerFactory) {
-        JpaTransactionManager transactionManager = new JpaTransactionManager();
-        transactionManager.setEntityManagerFactory(shard1EntityManagerFactory);
-        return transactionManager;
-    }
-
-    // ================================
-    // Shard2 DataSource 설정
-    // ================================
-
-    /**
-     * 샤드2 데이터소스 설정
-     */
-    @Bean("shard2DataSource")
-    public DataSource shard2DataSource() {
-        DatabaseProperties.DataSourceConfig shard2Config = databaseProperties.getShard2();
-        HikariConfig config = createHikariConfig(shard2Config,"Shard2HikariPool");
-        log.info("Shard2 DataSource 초기화: {}", shard2Config.getUrl());
-        return new HikariDataSource(config);
-    }
-
-    /**
-     * Shard2 EntityManagerFactory
-     */
-    @Bean("shard2EntityManagerFactory")
-    public LocalContainerEntityManagerFactoryBean shard2EntityManagerFactory(
-            @Qualifier("shard2DataSource") DataSource shard2DataSource) {
-
-        HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
-        vendorAdapter.setGenerateDdl(false);
-        vendorAdapter.setShowSql(false);
-        vendorAdapter.setDatabase(Database.POSTGRESQL);
-
-        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
-        factory.setDataSource(shard2DataSource);
-        factory.setPackagesToScan("com.sharenote.redistribution.entity");
-        factory.setJpaVendorAdapter(vendorAdapter);
-        factory.setJpaPropertyMap(createJpaProperties());
-        factory.setPersistenceUnitName("shard2");
-
-        return factory;
-    }
-
-    /**
-     * Shard2 TransactionManager
-     */
-    @Bean("shard2TransactionManager")
-    public PlatformTransactionManager shard2TransactionManager(
-            @Qualifier("shard2EntityManagerFactory") EntityManagerFactory shard2EntityManagerFactory) {
-        JpaTransactionManager transactionManager = new JpaTransactionManager();
-        transactionManager.setEntityManagerFactory(shard2EntityManagerFactory);
-        return transactionManager;
+    @Bean(destroyMethod = "close")
+    public ShardRegistry shardRegistry(@Qualifier("legacyDataSource") DataSource legacyDataSource,
+                                       @Qualifier("legacyTransactionManager") PlatformTransactionManager legacyTransactionManager,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, DataSource> shardDataSources = new LinkedHashMap<>();
+        databaseProperties.getShards().forEach((shardKey, shardConfig) -> {
+            String poolName = shardConfig.getHikari().getPoolName() != null
+                    ? shardConfig.getHikari().getPoolName()
+                    : shardKey + "HikariPool";
+            HikariConfig config = createHikariConfig(shardConfig, poolName);
+            meterRegistry.ifAvailable(registry ->
+                    config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            log.info("{} DataSource 초기화: {}", shardKey, shardConfig.getUrl());
+            shardDataSources.put(shardKey, new HikariDataSource(config));
+        });
+        return new ShardRegistry(legacyDataSource, legacyTransactionManager, shardDataSources);
     }
 
     // ================================
@@ -0,0 +1,92 @@
+package com.sharenote.redistribution.config;
+
+import com.sharenote.redistribution.properties.DatabaseProperties;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MigrationExecutorConfig {
+    private final MigrationProperties migrationProperties;
+    private final DatabaseProperties databaseProperties;
+
+    /**
+     * 페이지 마이그레이션 워커 풀
+     * 배치 단위로 작업을 제출하므로 대기열은 배치 크기만큼만 둔다.
+     */
+    @Bean(name = "migrationExecutor")
+    public ThreadPoolTaskExecutor migrationExecutor() {
+        int workerCount = Math.max(1, migrationProperties.getWorkerCount());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setQueueCapacity(Math.max(migrationProperties.getBatchSize(), workerCount));
+        executor.setThreadNamePrefix("migration-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("마이그레이션 워커 풀 생성 - 워커: {}개, 샤드별 동시 처리 상한: {}",
+                workerCount, migrationProperties.getShardConcurrency());
+        return executor;
+    }
+
+    /**
+     * @Scheduled 작업 스케줄러 (기본 스케줄러는 스레드가 1개)
+     * 스레드가 하나면 마이그레이션 실행 동안 Redis PING과 진행상황 전송이 멈춰
+     * 실행 중 Redis를 사용 불가로 판단하므로 주기 작업마다 스레드를 둔다. (파티션 임대 갱신은 전용 스레드)
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        int poolSize = Math.max(2, migrationProperties.getSchedulerPoolSize());
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("migration-scheduler-");
+        scheduler.initialize();
+
+        log.info("스케줄러 풀 생성 - 스레드: {}개", poolSize);
+        return scheduler;
+    }
+
+    /**
+     * COPY 스트리밍의 Legacy 읽기(COPY TO STDOUT) 전용 풀
+     * 워커 하나당 동시에 하나의 스트림만 읽으므로 워커 수만큼 두면 서로 기다리지 않는다.
+     * 워커 풀과 분리하여 워커가 읽기 작업을 기다리며 풀을 고갈시키지 않도록 한다.
+     */
+    @Bean(name = "copyStreamExecutor")
+    public ThreadPoolTaskExecutor copyStreamExecutor() {
+        int workerCount = Math.max(1, migrationProperties.getWorkerCount());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setThreadNamePrefix("migration-copy-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 감사 시 Legacy/샤드 집계 쿼리를 동시에 실행하는 풀 (데이터베이스당 1개)
+     */
+    @Bean(name = "auditExecutor")
+    public ThreadPoolTaskExecutor auditExecutor() {
+        int dataSourceCount = 1 + databaseProperties.getShards().size();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dataSourceCount);
+        executor.setMaxPoolSize(dataSourceCount);
+        executor.setThreadNamePrefix("migration-audit-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,13 +0,0 @@
-package com.sharenote.redistribution.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-
-@Configuration
-@EnableJpaRepositories(
-        basePackages = "com.sharenote.redistribution.repository.shard1",
-        entityManagerFactoryRef = "shard1EntityManagerFactory",
-        transactionManagerRef = "shard1TransactionManager"
-)
-public class Shard1JpaConfig {
-}
@@ -1,13 +0,0 @@
-package com.sharenote.redistribution.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-
-@Configuration
-@EnableJpaRepositories(
-        basePackages = "com.sharenote.redistribution.repository.shard2",
-        entityManagerFactoryRef = "shard2EntityManagerFactory",
-        transactionManagerRef = "shard2TransactionManager"
-)
-public class Shard2JpaConfig {
-}
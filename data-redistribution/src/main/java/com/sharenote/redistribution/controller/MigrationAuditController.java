@@ -0,0 +1,26 @@
+package com.sharenote.redistribution.controller;
+
+import com.sharenote.redistribution.dto.response.MigrationAuditReport;
+import com.sharenote.redistribution.service.audit.MerkleAuditService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/migration/audit")
+@RequiredArgsConstructor
+public class MigrationAuditController {
+    private final MerkleAuditService merkleAuditService;
+
+    @PostMapping("/baseline")
+    public ResponseEntity<Integer> captureBaseline() {
+        return ResponseEntity.ok(merkleAuditService.captureBaseline());
+    }
+
+    @PostMapping
+    public ResponseEntity<MigrationAuditReport> audit() {
+        return ResponseEntity.ok(merkleAuditService.audit());
+    }
+}
@@ -2,17 +2,21 @@ package com.sharenote.redistribution.controller;
 
 import com.sharenote.redistribution.dto.response.MigrationProgressInfo;
 import com.sharenote.redistribution.service.migration.MigrationProgressService;
+import com.sharenote.redistribution.service.migration.MigrationProgressStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/migration")
 @RequiredArgsConstructor
 public class MigrationProgressController {
     private final MigrationProgressService migrationProgressService;
+    private final MigrationProgressStreamService migrationProgressStreamService;
 
     @GetMapping("/progress")
     public ResponseEntity<MigrationProgressInfo> getMigrationProgress() {
@@ -20,6 +24,11 @@ public class MigrationProgressController {
         return ResponseEntity.ok(progressInfo);
     }
 
+    @GetMapping(value = "/progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMigrationProgress() {
+        return migrationProgressStreamService.subscribe();
+    }
+
     @GetMapping("/percentage")
     public ResponseEntity<Double> getMigrationProgressPercentage() {
         double percentage = migrationProgressService.getMigrationProgressPercentage();
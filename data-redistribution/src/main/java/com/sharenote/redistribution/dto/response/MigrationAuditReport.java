@@ -0,0 +1,40 @@
+package com.sharenote.redistribution.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigrationAuditReport {
+    private LocalDateTime baselineCapturedAt;
+    private int depth;
+    private long comparedBuckets;
+
+    @Builder.Default
+    private List<String> mismatchedLeaves = new ArrayList<>();
+
+    /**
+     * 두 개 이상의 데이터베이스에 동시에 존재하는 페이지
+     */
+    @Builder.Default
+    private List<UUID> duplicatedPages = new ArrayList<>();
+
+    /**
+     * 샤드 결정 규칙과 다른 샤드에 존재하는 페이지
+     */
+    @Builder.Default
+    private List<UUID> misplacedPages = new ArrayList<>();
+
+    public boolean isConsistent() {
+        return mismatchedLeaves.isEmpty() && duplicatedPages.isEmpty() && misplacedPages.isEmpty();
+    }
+}
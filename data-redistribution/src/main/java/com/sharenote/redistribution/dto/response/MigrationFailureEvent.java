@@ -0,0 +1,21 @@
+package com.sharenote.redistribution.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigrationFailureEvent {
+    private String mode;          // page / bulk
+    private String target;        // 페이지 ID 또는 묶음 대상 샤드
+    private int pageCount;
+    private String exception;
+    private String message;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,34 @@
+package com.sharenote.redistribution.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigrationProgressEvent {
+    private MigrationProgressInfo progress;
+
+    /**
+     * 직전 이벤트 이후 변화량
+     */
+    private long migratedDelta;
+    private long failedDelta;
+    private long remainingDelta;
+
+    private double pagesPerSecond;
+    private int activeWorkers;
+    private int workerCount;
+
+    @Builder.Default
+    private List<MigrationFailureEvent> recentFailures = new ArrayList<>();
+
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,13 @@
+package com.sharenote.redistribution.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ShardPlacementStrategy {
+    CONSISTENT_HASH("가상 노드 기반 일관된 해시 링"),
+    MODULO("hashCode % 데이터소스 수 (기본 배치 방식)");
+
+    private final String description;
+}
@@ -0,0 +1,10 @@
+package com.sharenote.redistribution.exception.custom;
+
+/**
+ * 더 큰 펜싱 토큰을 가진 작업자가 이미 페이지를 가져간 경우 (락 유지시간을 넘겨 멈췄던 작업자의 쓰기)
+ */
+public class StaleFencingTokenException extends MigrationException {
+    public StaleFencingTokenException(String message) {
+        super(message);
+    }
+}
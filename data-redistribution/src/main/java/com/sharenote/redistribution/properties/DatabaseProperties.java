@@ -4,14 +4,20 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "spring.datasource")
 public class DatabaseProperties {
 
     private DataSourceConfig legacy = new DataSourceConfig();
-    private DataSourceConfig shard1 = new DataSourceConfig();
-    private DataSourceConfig shard2 = new DataSourceConfig();
+
+    /**
+     * 샤드 목록 (키 = 샤드 키, 설정 순서대로 배치 대상이 된다)
+     */
+    private Map<String, DataSourceConfig> shards = new LinkedHashMap<>();
 
     @Data
     public static class DataSourceConfig {
@@ -19,6 +25,7 @@ public class DatabaseProperties {
         private String username;
         private String password;
         private String driverClassName = "org.postgresql.Driver";
+        private int weight = 1;   // 샤드 배치 가중치 (큰 서버일수록 크게)
         private HikariConfig hikari = new HikariConfig();
 
         @Data
@@ -29,6 +36,7 @@ public class DatabaseProperties {
             private long idleTimeout = 300000;
             private long leakDetectionThreshold = 60000;
             private String poolName;
+            private boolean reWriteBatchedInserts = false; // pgjdbc가 배치 INSERT를 다중 VALUES 한 문장으로 재작성
         }
     }
 }
\ No newline at end of file
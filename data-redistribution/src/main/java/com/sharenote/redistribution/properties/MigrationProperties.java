@@ -1,9 +1,13 @@
 package com.sharenote.redistribution.properties;
 
+import com.sharenote.redistribution.enums.ShardPlacementStrategy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "app.redistribution")
@@ -11,4 +15,139 @@ public class MigrationProperties {
     private int batchSize;
     private int delayBetweenBatches;
     private int retryCount;
+
+    /**
+     * 페이지를 동시에 마이그레이션하는 워커 스레드 수
+     * 워커 하나가 Legacy 커넥션을 페이지 처리 내내 점유하므로 Legacy 풀 크기보다 작아야 한다.
+     */
+    private int workerCount = 4;
+
+    /**
+     * @Scheduled 작업 스레드 수
+     * 마이그레이션 실행이 스레드 하나를 실행 내내 점유하므로 나머지 주기 작업(Redis PING, 진행상황 전송 등) 수보다 커야 한다.
+     */
+    private int schedulerPoolSize = 5;
+
+    /**
+     * 배치 모드 사용 여부
+     * true면 같은 대상 샤드로 가는 페이지들을 묶어 조회/배치 INSERT/삭제를 한 번에 처리하고,
+     * 묶음 처리에 실패한 페이지만 페이지 단위로 다시 마이그레이션한다.
+     */
+    private boolean batchMode = false;
+
+    /**
+     * 배치 모드에서 블록/권한을 COPY (FORMAT binary) 스트리밍으로 복제할지 여부
+     * Legacy의 COPY TO STDOUT 출력을 엔티티로 만들지 않고 바로 대상 샤드의 COPY FROM STDIN으로 흘려보낸다.
+     * Legacy와 샤드의 컬럼 타입이 같아야 한다.
+     */
+    private boolean copyStreaming = false;
+
+    /**
+     * COPY 스트리밍 시 읽기/쓰기 사이 버퍼 크기 (바이트)
+     */
+    private int copyBufferSize = 1024 * 1024;
+
+    /**
+     * 블록 수가 이 값을 넘는 페이지는 블록을 메모리에 올리지 않고 커서로 읽어 청크 단위로 복제 (0 = 사용 안 함)
+     */
+    private long blockStreamingThreshold = 10000;
+
+    /**
+     * 블록 스트리밍 시 커서 fetch 크기이자 샤드 INSERT 청크 크기
+     */
+    private int blockFetchSize = 1000;
+
+    /**
+     * 대상 샤드별 동시 마이그레이션 상한 (샤드 커넥션 예산)
+     * 설정되지 않은 샤드는 workerCount만큼 허용
+     */
+    private Map<String, Integer> shardConcurrency = new HashMap<>();
+
+    /**
+     * 인스턴스 간 작업 분할을 위한 파티션 임대 설정
+     */
+    private PartitionConfig partition = new PartitionConfig();
+
+    /**
+     * 운영 부하에 따른 마이그레이션 속도 자동 조절 설정
+     */
+    private ThrottleConfig throttle = new ThrottleConfig();
+
+    /**
+     * 변경 로그 기반 마이그레이션 설정 (잠금 없이 복제 후 변경분을 따라잡고 짧은 전환 락만 사용)
+     */
+    private ChangeCaptureConfig changeCapture = new ChangeCaptureConfig();
+
+    /**
+     * 진행상황 카운터 설정
+     */
+    private ProgressConfig progress = new ProgressConfig();
+
+    /**
+     * Legacy/샤드 간 머클 트리 감사 설정
+     */
+    private AuditConfig audit = new AuditConfig();
+
+    /**
+     * 샤드 배치 설정 (노드별 가중치는 spring.datasource.*.weight)
+     */
+    private PlacementConfig placement = new PlacementConfig();
+
+    public int getShardConcurrency(String shardKey) {
+        return shardConcurrency.getOrDefault(shardKey, workerCount);
+    }
+
+    @Data
+    public static class PartitionConfig {
+        private int count = 16;                  // 페이지 ID 해시 파티션 수
+        private long leaseTtl = 30000;           // 임대 유지 시간 (밀리초)
+        private long heartbeatInterval = 10000;  // 임대 갱신 주기 (밀리초)
+        private int maxPerInstance = 0;          // 인스턴스당 최대 임대 수 (0 = 살아있는 인스턴스 수 기준 균등 몫만)
+    }
+
+    @Data
+    public static class ThrottleConfig {
+        private boolean enabled = true;
+        private int minBatchSize = 10;              // 감속 시 최소 배치 크기
+        private int minWorkerCount = 1;             // 감속 시 최소 워커 수
+        private long minDelay = 0;                  // 배치 간 최소 대기 (밀리초)
+        private long maxDelay = 30000;              // 배치 간 최대 대기 (밀리초)
+        private long delayStep = 500;               // 가속 시 대기 감소폭 / 감속 시 최소 대기 (밀리초)
+        private double targetPageLatency = 500;     // 페이지당 처리 시간 목표 (밀리초)
+        private double maxLockConflictRate = 0.1;   // 허용 락 충돌 비율
+        private int maxPoolWaiters = 2;             // 허용 Hikari 커넥션 대기 스레드 수
+        private double peakCapacityRatio = 0.5;     // 피크 시간대 최대치 비율
+        private int offPeakStartHour = 1;           // 한가한 시간대 시작 (시)
+        private int offPeakEndHour = 6;             // 한가한 시간대 종료 (시)
+        private double smoothing = 0.3;             // EWMA 가중치
+    }
+
+    @Data
+    public static class ChangeCaptureConfig {
+        private boolean enabled = false;
+        private int maxCatchUpRounds = 5;        // 전환 락 전에 변경분을 따라잡는 최대 횟수
+        private long cutoverLockWait = 5;        // 전환 락 대기 시간 (초)
+        private long cutoverLockLease = 30;      // 전환 락 유지 시간 (초)
+        private long logPurgeInterval = 600000;  // 마이그레이션 중이 아닌 페이지의 변경 로그 정리 주기 (밀리초)
+    }
+
+    @Data
+    public static class ProgressConfig {
+        private long reconcileInterval = 60000;  // Legacy 집계로 카운터를 보정하는 주기 (밀리초)
+        private long streamInterval = 1000;      // SSE 진행상황 전송 주기 (밀리초)
+        private long streamTimeout = 1800000;    // SSE 연결 유지 시간 (밀리초)
+        private int recentFailureLimit = 20;     // 이벤트에 포함할 최근 실패 수
+    }
+
+    @Data
+    public static class AuditConfig {
+        private int depth = 4;                   // 트리 깊이 = 리프 버킷의 페이지 ID 해시 접두사 길이 (16^depth개 리프)
+        private int maxReportedLeaves = 100;     // 페이지 단위로 확인할 최대 불일치 리프 수
+    }
+
+    @Data
+    public static class PlacementConfig {
+        private ShardPlacementStrategy strategy = ShardPlacementStrategy.MODULO; // 기존 배치 유지, 링은 새로 재분배할 때만 선택
+        private int virtualNodes = 160;          // 가중치 1당 가상 노드 수
+    }
 }
@@ -10,6 +10,7 @@ public class RedissonProperties {
     private ServerConfig server = new ServerConfig();
     private PoolConfig pool = new PoolConfig();
     private LockConfig lock = new LockConfig();
+    private HealthConfig health = new HealthConfig();
     /**
      * 레디스 서버 설정
      */
@@ -43,6 +44,18 @@ public class RedissonProperties {
         private int retryInterval;
     }
 
+    /**
+     * Redis 상태 감시 설정
+     */
+    @Data
+    public static class HealthConfig {
+        private long pingInterval = 1000;    // PING 주기 (밀리초)
+        private long pingTimeout = 1000;     // PING 응답 대기 (밀리초)
+        private int failureThreshold = 2;    // DOWN 전이 연속 실패 수
+        private int recoveryThreshold = 2;   // UP 전이 연속 성공 수
+        private long maxStaleness = 5000;    // 마지막 성공 PING 이후 사용 가능으로 보는 시간 (밀리초)
+    }
+
     /**
      * 분산락 설정
      */
@@ -52,6 +65,7 @@ public class RedissonProperties {
         private long defaultWaitTime;
         private long defaultLeaseTime;
         private String keyPrefix;
+        private boolean fallbackEnabled = false; // Redis 장애 시 PostgreSQL advisory lock으로 대체 (인스턴스별 판단, 단일 인스턴스 운영에서만)
 
         /**
          * 완전한 락 키 생성
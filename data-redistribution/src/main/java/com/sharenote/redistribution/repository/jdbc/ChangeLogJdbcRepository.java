@@ -0,0 +1,123 @@
+package com.sharenote.redistribution.repository.jdbc;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Legacy 변경 로그(migration_change_log) 저장소
+ * <p>
+ * pages/blocks/page_permissions 트리거가 변경된 행의 page_id와 트랜잭션 ID(xid8)를 기록한다. (docker/sql/03-change-log.sql)
+ * 복제 시점의 스냅샷(pg_snapshot)을 함께 저장해 두면, 이후 스냅샷에서 보이지 않던 트랜잭션의 변경만 골라
+ * "복제 이후 바뀐 페이지"를 커밋 순서와 무관하게 정확히 구할 수 있다.
+ * 트리거는 변경 로그 기반 마이그레이션을 켰을 때만 설치하며, 마이그레이션 작업자의 쓰기는 기록하지 않는다.
+ * 모든 메서드는 Legacy 트랜잭션이 열려 있으면 그 트랜잭션에 참여한다.
+ */
+@Repository
+public class ChangeLogJdbcRepository {
+    private final JdbcTemplate legacyJdbcTemplate;
+
+    public ChangeLogJdbcRepository(@Qualifier("legacyDataSource") DataSource legacyDataSource) {
+        this.legacyJdbcTemplate = new JdbcTemplate(legacyDataSource);
+    }
+
+    /**
+     * 현재 트랜잭션의 스냅샷 (REPEATABLE READ 트랜잭션 안에서는 트랜잭션 내내 같은 값)
+     */
+    public String currentSnapshot() {
+        return legacyJdbcTemplate.queryForObject("SELECT CAST(pg_current_snapshot() AS TEXT)", String.class);
+    }
+
+    /**
+     * 주어진 스냅샷에서 보이지 않던 트랜잭션이 변경한 페이지 조회
+     * REPEATABLE READ 트랜잭션 안에서 호출하면 "이전 스냅샷 ~ 현재 스냅샷" 사이에 커밋된 변경만 조회된다.
+     */
+    public List<UUID> findChangedPageIds(Collection<UUID> pageIds, String sinceSnapshot) {
+        return legacyJdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement("""
+                            SELECT DISTINCT page_id FROM migration_change_log
+                            WHERE page_id = ANY(?) AND NOT pg_visible_in_snapshot(xid, CAST(? AS pg_snapshot))
+                            """);
+                    statement.setArray(1, connection.createArrayOf("uuid", pageIds.toArray()));
+                    statement.setString(2, sinceSnapshot);
+                    return statement;
+                },
+                (rs, rowNum) -> rs.getObject(1, UUID.class));
+    }
+
+    /**
+     * 전환할 페이지의 클라이언트 쓰기 차단 (전환 트랜잭션의 첫 문장으로 호출, 커밋/롤백 시 해제)
+     * 1. 페이지/블록/권한 행 잠금 - 진행 중인 수정/삭제가 커밋되기를 기다리고 이후 수정/삭제를 막는다.
+     *    페이지 행은 FOR NO KEY UPDATE로 잡아 블록/권한 INSERT의 FK 확인(KEY SHARE)과 충돌하지 않게 한다.
+     * 2. 페이지별 배타 전환 락 - 블록/권한 INSERT는 트리거에서 같은 키를 공유 모드로 먼저 잡으므로
+     *    진행 중인 INSERT가 커밋되기를 기다리고, 이후 INSERT는 전환이 끝날 때까지 막는다.
+     * 전환 락을 쥔 INSERT는 전환이 잠근 행을 기다리지 않고(FK 확인은 KEY SHARE), 전환은 행을 모두 잠근 뒤에
+     * 전환 락을 기다리므로 교착 상태가 생기지 않는다.
+     */
+    public void lockPagesForCutover(Collection<UUID> pageIds) {
+        lockRows("SELECT 1 FROM pages WHERE id = ANY(?) ORDER BY id FOR NO KEY UPDATE", pageIds);
+        lockRows("SELECT 1 FROM blocks WHERE page_id = ANY(?) ORDER BY id FOR UPDATE", pageIds);
+        lockRows("SELECT 1 FROM page_permissions WHERE page_id = ANY(?) ORDER BY id FOR UPDATE", pageIds);
+        // 키 계산식은 lock_migration_page 트리거와 같아야 한다. (docker/sql/03-change-log.sql)
+        lockRows("""
+                SELECT pg_advisory_xact_lock(hashtext('migration_page'), lock_key)
+                FROM (SELECT DISTINCT hashtext(CAST(id AS TEXT)) AS lock_key FROM unnest(?) AS id ORDER BY 1) AS lock_keys
+                """, pageIds);
+    }
+
+    /**
+     * 전환이 끝난 페이지의 변경 로그 삭제
+     * @return 삭제된 로그 수
+     */
+    public int deleteByPageIds(Collection<UUID> pageIds) {
+        return legacyJdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement("DELETE FROM migration_change_log WHERE page_id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("uuid", pageIds.toArray()));
+            return statement;
+        });
+    }
+
+    /**
+     * 변경 로그/전환 락 트리거 설치 (이미 있으면 그대로 둔다)
+     */
+    public void enableChangeCapture() {
+        legacyJdbcTemplate.queryForObject("SELECT CAST(enable_migration_change_capture() AS TEXT)", String.class);
+    }
+
+    /**
+     * 변경 로그/전환 락 트리거 제거 및 남은 변경 로그 삭제
+     */
+    public void disableChangeCapture() {
+        legacyJdbcTemplate.queryForObject("SELECT CAST(disable_migration_change_capture() AS TEXT)", String.class);
+    }
+
+    /**
+     * 마이그레이션 중이 아닌 페이지의 변경 로그 삭제
+     * 페이지가 MIGRATING으로 선점되기 전에 커밋된 변경은 복제 스냅샷에 이미 보이므로 따라잡기에 쓰이지 않는다.
+     * (Legacy에 남는 페이지와 삭제된 페이지의 로그도 여기서 정리된다.)
+     * @return 삭제된 로그 수
+     */
+    public int deleteInactive() {
+        return legacyJdbcTemplate.update("""
+                DELETE FROM migration_change_log l
+                WHERE NOT EXISTS (SELECT 1 FROM pages p WHERE p.id = l.page_id AND p.migration_status = 'MIGRATING')
+                """);
+    }
+
+    private void lockRows(String sql, Collection<UUID> pageIds) {
+        legacyJdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(sql);
+                    statement.setArray(1, connection.createArrayOf("uuid", pageIds.toArray()));
+                    return statement;
+                },
+                rs -> {
+                });
+    }
+}
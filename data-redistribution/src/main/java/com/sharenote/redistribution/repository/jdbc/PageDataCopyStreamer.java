@@ -0,0 +1,146 @@
+package com.sharenote.redistribution.repository.jdbc;
+
+import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.service.shard.ShardRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL COPY (FORMAT binary) 스트리밍 복제기
+ * <p>
+ * 원본의 COPY ... TO STDOUT 출력을 크기가 제한된 파이프를 통해 대상의 COPY ... FROM STDIN으로 바로 흘려보낸다.
+ * 1. 읽기: copyStreamExecutor 스레드에서 원본 COPY TO STDOUT → 파이프 쓰기
+ * 2. 쓰기: 호출 스레드에서 파이프 읽기 → 대상 COPY FROM STDIN
+ * 3. 양쪽 행 수 비교
+ * 엔티티를 만들지 않으므로 블록이 많은 페이지도 메모리 사용량이 버퍼 크기로 제한된다.
+ * 대상 데이터소스에 트랜잭션이 열려 있으면 그 커넥션으로 쓰므로 트랜잭션 롤백 시 함께 취소된다.
+ */
+@Slf4j
+@Repository
+public class PageDataCopyStreamer {
+    private final ShardRegistry shardRegistry;
+    private final ThreadPoolTaskExecutor copyStreamExecutor;
+    private final MigrationProperties migrationProperties;
+
+    private static final String BLOCK_COLUMNS =
+            "id, page_id, parent_block_id, type, content, position, is_archived, created_at, updated_at, created_by, last_edited_by";
+
+    private static final String PERMISSION_COLUMNS =
+            "id, page_id, user_id, permission_type, granted_at, granted_by";
+
+    public PageDataCopyStreamer(ShardRegistry shardRegistry,
+                                @Qualifier("copyStreamExecutor") ThreadPoolTaskExecutor copyStreamExecutor,
+                                MigrationProperties migrationProperties) {
+        this.shardRegistry = shardRegistry;
+        this.copyStreamExecutor = copyStreamExecutor;
+        this.migrationProperties = migrationProperties;
+    }
+
+    /**
+     * 여러 페이지의 블록을 원본에서 대상으로 스트리밍 복제
+     * @return 복제된 행 수
+     */
+    public long streamBlocks(String sourceKey, String targetKey, Collection<UUID> pageIds) {
+        return stream("blocks", BLOCK_COLUMNS, sourceKey, targetKey, pageIds);
+    }
+
+    /**
+     * 여러 페이지의 권한을 원본에서 대상으로 스트리밍 복제
+     * @return 복제된 행 수
+     */
+    public long streamPermissions(String sourceKey, String targetKey, Collection<UUID> pageIds) {
+        return stream("page_permissions", PERMISSION_COLUMNS, sourceKey, targetKey, pageIds);
+    }
+
+    private long stream(String table, String columns, String sourceKey, String targetKey, Collection<UUID> pageIds) {
+        // COPY 쿼리에는 바인드 파라미터를 쓸 수 없으므로 UUID 배열 리터럴로 조건을 만든다. (UUID.toString은 안전한 문자만 포함)
+        String copyOutSql = "COPY (SELECT " + columns + " FROM " + table
+                + " WHERE page_id = ANY('" + uuidArrayLiteral(pageIds) + "'::uuid[])) TO STDOUT (FORMAT binary)";
+        String copyInSql = "COPY " + table + " (" + columns + ") FROM STDIN (FORMAT binary)";
+
+        DataSource sourceDataSource = shardRegistry.getDataSource(sourceKey);
+        DataSource targetDataSource = shardRegistry.getDataSource(targetKey);
+        Connection sourceConnection = DataSourceUtils.getConnection(sourceDataSource);
+        Connection targetConnection = null;
+
+        try {
+            targetConnection = DataSourceUtils.getConnection(targetDataSource);
+            CopyManager sourceCopy = sourceConnection.unwrap(PGConnection.class).getCopyAPI();
+            CopyManager targetCopy = targetConnection.unwrap(PGConnection.class).getCopyAPI();
+
+            PipedInputStream pipeIn = new PipedInputStream(migrationProperties.getCopyBufferSize());
+            PipedOutputStream pipeOut = new PipedOutputStream(pipeIn);
+
+            CompletableFuture<Long> copyOut = CompletableFuture.supplyAsync(() -> {
+                try (pipeOut) {
+                    return sourceCopy.copyOut(copyOutSql, pipeOut);
+                } catch (SQLException | IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, copyStreamExecutor);
+
+            long copiedIn;
+            try (pipeIn) {
+                copiedIn = targetCopy.copyIn(copyInSql, pipeIn);
+            } catch (SQLException | IOException e) {
+                // 파이프를 닫아 읽기 스레드가 가득 찬 버퍼에서 대기하지 않게 하고, 읽기 쪽 원인이 있으면 함께 보고
+                pipeIn.close();
+                awaitCopyOutFailure(copyOut).ifPresent(e::addSuppressed);
+                throw new MigrationException(table + " COPY 쓰기 실패: " + sourceKey + " → " + targetKey, e);
+            }
+
+            long copiedOut = copyOut.join();
+            if (copiedIn != copiedOut) {
+                throw new MigrationException(String.format(
+                        "%s COPY 행 수 불일치: 읽기=%d, 쓰기=%d", table, copiedOut, copiedIn));
+            }
+
+            log.debug("{} COPY 스트리밍 완료 - {} → {}, {}행", table, sourceKey, targetKey, copiedIn);
+            return copiedIn;
+
+        } catch (MigrationException e) {
+            throw e;
+        } catch (CompletionException e) {
+            throw new MigrationException(table + " COPY 읽기 실패: " + sourceKey, e.getCause());
+        } catch (SQLException | IOException e) {
+            throw new MigrationException(table + " COPY 스트리밍 준비 실패", e);
+        } finally {
+            DataSourceUtils.releaseConnection(sourceConnection, sourceDataSource);
+            if (targetConnection != null) {
+                DataSourceUtils.releaseConnection(targetConnection, targetDataSource);
+            }
+        }
+    }
+
+    private static Optional<SQLException> awaitCopyOutFailure(CompletableFuture<Long> copyOut) {
+        try {
+            copyOut.join();
+            return Optional.empty();
+        } catch (CompletionException e) {
+            return e.getCause() instanceof SQLException sqlException ? Optional.of(sqlException) : Optional.empty();
+        }
+    }
+
+    private static String uuidArrayLiteral(Collection<UUID> ids) {
+        return ids.stream().map(UUID::toString).collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,415 @@
+package com.sharenote.redistribution.repository.jdbc;
+
+import com.sharenote.redistribution.entity.Block;
+import com.sharenote.redistribution.entity.Page;
+import com.sharenote.redistribution.entity.PagePermission;
+import com.sharenote.redistribution.enums.MigrationStatus;
+import com.sharenote.redistribution.enums.PagePermissionType;
+import com.sharenote.redistribution.service.migration.vo.BucketDigestVo;
+import com.sharenote.redistribution.service.migration.vo.PageDigestVo;
+import com.sharenote.redistribution.service.shard.ShardRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 페이지 단위 데이터를 여러 페이지 묶음으로 읽고 쓰는 JDBC 저장소
+ * <p>
+ * 배치 모드 마이그레이션에서 페이지마다 반복되던 조회/저장/삭제를
+ * page_id = ANY(?) 조회와 JDBC 배치 INSERT로 묶어 왕복 횟수를 줄인다.
+ * 모든 메서드는 대상 데이터소스 키(legacy 또는 ShardRegistry의 샤드 키)를 받으며,
+ * 해당 데이터소스의 트랜잭션이 열려 있으면 그 트랜잭션에 참여한다.
+ * Legacy 상태 변경/삭제는 트랜잭션에 마이그레이션 쓰기 표시를 남겨 변경 로그 트리거가 기록하지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PageDataJdbcRepository {
+    private final ShardRegistry shardRegistry;
+
+    private static final String INSERT_PAGE_SQL = """
+            INSERT INTO pages (id, workspace_id, parent_page_id, title, icon, cover, properties,
+                               is_public, is_archived, is_template, created_at, updated_at,
+                               created_by, last_edited_by, migration_status)
+            VALUES (?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), CAST(? AS JSONB), ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_BLOCK_SQL = """
+            INSERT INTO blocks (id, page_id, parent_block_id, type, content, position,
+                                is_archived, created_at, updated_at, created_by, last_edited_by)
+            VALUES (?, ?, ?, ?, CAST(? AS JSONB), ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_PERMISSION_SQL = """
+            INSERT INTO page_permissions (id, page_id, user_id, permission_type, granted_at, granted_by)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * 여러 페이지 조회
+     */
+    public List<Page> findPagesByIds(String dataSourceKey, Collection<UUID> pageIds) {
+        return jdbc(dataSourceKey).query(
+                connection -> {
+                    var statement = connection.prepareStatement("SELECT * FROM pages WHERE id = ANY(?)");
+                    statement.setArray(1, uuidArray(connection, pageIds));
+                    return statement;
+                },
+                PAGE_ROW_MAPPER);
+    }
+
+    /**
+     * 여러 페이지의 블록 조회 (페이지, 포지션 순서)
+     */
+    public List<Block> findBlocksByPageIds(String dataSourceKey, Collection<UUID> pageIds) {
+        return jdbc(dataSourceKey).query(
+                connection -> {
+                    var statement = connection.prepareStatement(
+                            "SELECT * FROM blocks WHERE page_id = ANY(?) ORDER BY page_id, position");
+                    statement.setArray(1, uuidArray(connection, pageIds));
+                    return statement;
+                },
+                BLOCK_ROW_MAPPER);
+    }
+
+    /**
+     * 한 페이지의 블록을 커서로 읽어 청크 단위로 전달 (포지션 순서)
+     * fetchSize만큼씩 서버 커서에서 가져오므로 블록 수와 관계없이 메모리 사용량이 청크 크기로 제한된다.
+     * PostgreSQL 커서는 트랜잭션(autocommit 꺼짐) 안에서만 동작하므로 해당 데이터소스의 트랜잭션 안에서 호출해야 한다.
+     * @return 읽은 블록 수
+     */
+    public long streamBlocksByPageId(String dataSourceKey, UUID pageId, int fetchSize,
+                                     Consumer<List<Block>> chunkConsumer) {
+        List<Block> chunk = new ArrayList<>(fetchSize);
+        long[] total = {0};
+
+        jdbc(dataSourceKey).query(
+                connection -> {
+                    var statement = connection.prepareStatement(
+                            "SELECT * FROM blocks WHERE page_id = ? ORDER BY position");
+                    statement.setFetchSize(fetchSize);
+                    statement.setObject(1, pageId);
+                    return statement;
+                },
+                rs -> {
+                    chunk.add(BLOCK_ROW_MAPPER.mapRow(rs, rs.getRow()));
+                    if (chunk.size() >= fetchSize) {
+                        chunkConsumer.accept(List.copyOf(chunk));
+                        total[0] += chunk.size();
+                        chunk.clear();
+                    }
+                });
+
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(List.copyOf(chunk));
+            total[0] += chunk.size();
+        }
+        return total[0];
+    }
+
+    /**
+     * 여러 페이지의 권한 조회
+     */
+    public List<PagePermission> findPermissionsByPageIds(String dataSourceKey, Collection<UUID> pageIds) {
+        return jdbc(dataSourceKey).query(
+                connection -> {
+                    var statement = connection.prepareStatement(
+                            "SELECT * FROM page_permissions WHERE page_id = ANY(?)");
+                    statement.setArray(1, uuidArray(connection, pageIds));
+                    return statement;
+                },
+                PERMISSION_ROW_MAPPER);
+    }
+
+    /**
+     * 페이지 배치 INSERT
+     */
+    public void batchInsertPages(String dataSourceKey, List<Page> pages) {
+        jdbc(dataSourceKey).batchUpdate(INSERT_PAGE_SQL, pages, pages.size(), (ps, page) -> {
+            ps.setObject(1, page.getId());
+            ps.setObject(2, page.getWorkspaceId());
+            ps.setObject(3, page.getParentPageId());
+            ps.setString(4, page.getTitle());
+            ps.setString(5, page.getIcon());
+            ps.setString(6, page.getCover());
+            ps.setString(7, page.getProperties());
+            ps.setObject(8, page.getIsPublic());
+            ps.setObject(9, page.getIsArchived());
+            ps.setObject(10, page.getIsTemplate());
+            ps.setTimestamp(11, toTimestamp(page.getCreatedAt()));
+            ps.setTimestamp(12, toTimestamp(page.getUpdatedAt()));
+            ps.setObject(13, page.getCreatedBy());
+            ps.setObject(14, page.getLastEditedBy());
+            ps.setString(15, page.getMigrationStatus() != null ? page.getMigrationStatus().name() : null);
+        });
+    }
+
+    /**
+     * 블록 배치 INSERT
+     */
+    public void batchInsertBlocks(String dataSourceKey, List<Block> blocks, int batchSize) {
+        jdbc(dataSourceKey).batchUpdate(INSERT_BLOCK_SQL, blocks, batchSize, (ps, block) -> {
+            ps.setObject(1, block.getId());
+            ps.setObject(2, block.getPageId());
+            ps.setObject(3, block.getParentBlockId());
+            ps.setString(4, block.getType());
+            ps.setString(5, block.getContent());
+            ps.setObject(6, block.getPosition());
+            ps.setObject(7, block.getIsArchived());
+            ps.setTimestamp(8, toTimestamp(block.getCreatedAt()));
+            ps.setTimestamp(9, toTimestamp(block.getUpdatedAt()));
+            ps.setObject(10, block.getCreatedBy());
+            ps.setObject(11, block.getLastEditedBy());
+        });
+    }
+
+    /**
+     * 권한 배치 INSERT
+     */
+    public void batchInsertPermissions(String dataSourceKey, List<PagePermission> permissions, int batchSize) {
+        jdbc(dataSourceKey).batchUpdate(INSERT_PERMISSION_SQL, permissions, batchSize, (ps, permission) -> {
+            ps.setObject(1, permission.getId());
+            ps.setObject(2, permission.getPageId());
+            ps.setObject(3, permission.getUserId());
+            ps.setString(4, permission.getPermission() != null ? permission.getPermission().name() : null);
+            ps.setTimestamp(5, toTimestamp(permission.getGrantedAt()));
+            ps.setObject(6, permission.getGrantedBy());
+        });
+    }
+
+    /**
+     * 페이지 묶음의 페이지/블록/권한 다이제스트를 DB 안에서 계산 (집계 쿼리 1회)
+     */
+    public PageDigestVo computeDigest(String dataSourceKey, Collection<UUID> pageIds) {
+        return jdbc(dataSourceKey).query(
+                connection -> {
+                    var statement = connection.prepareStatement(PageDigestSql.GROUP_DIGEST_SQL);
+                    Array ids = uuidArray(connection, pageIds);
+                    for (int i = 1; i <= 6; i++) {
+                        statement.setArray(i, ids);
+                    }
+                    return statement;
+                },
+                (rs, rowNum) -> PageDigestVo.builder()
+                        .pageCount(rs.getLong("page_count"))
+                        .pageDigest(rs.getString("page_digest"))
+                        .blockCount(rs.getLong("block_count"))
+                        .blockDigest(rs.getString("block_digest"))
+                        .permissionCount(rs.getLong("permission_count"))
+                        .permissionDigest(rs.getString("permission_digest"))
+                        .build())
+                .get(0);
+    }
+
+    /**
+     * 상위 접두사에 속한 하위 버킷별 다이제스트 계산 (집계 쿼리 1회)
+     * @param prefixLength   하위 버킷의 페이지 ID 해시 접두사 길이
+     * @param parentPrefixes 상위 버킷 접두사 목록 (최상위는 빈 문자열 하나)
+     */
+    public Map<String, BucketDigestVo> computeBucketDigests(String dataSourceKey, int prefixLength,
+                                                            Collection<String> parentPrefixes) {
+        Map<String, BucketDigestVo> digests = new HashMap<>();
+        jdbc(dataSourceKey).query(
+                connection -> {
+                    var statement = connection.prepareStatement(PageDigestSql.BUCKET_DIGEST_SQL);
+                    Array prefixes = connection.createArrayOf("text", parentPrefixes.toArray());
+                    for (int i = 0; i < 3; i++) {
+                        statement.setInt(i * 3 + 1, prefixLength);
+                        statement.setInt(i * 3 + 2, prefixLength - 1);
+                        statement.setArray(i * 3 + 3, prefixes);
+                    }
+                    return statement;
+                },
+                rs -> {
+                    BucketDigestVo digest = digests.computeIfAbsent(rs.getString("bucket"), bucket -> BucketDigestVo.empty());
+                    long rowCount = rs.getLong("row_count");
+                    // numeric 합을 mod 2^64로 줄여 데이터베이스 간에 더할 수 있게 한다.
+                    long hashSum = rs.getBigDecimal("hash_sum").toBigInteger().longValue();
+                    switch (rs.getString("table_name")) {
+                        case "pages" -> {
+                            digest.setPageCount(rowCount);
+                            digest.setPageHashSum(hashSum);
+                        }
+                        case "blocks" -> {
+                            digest.setBlockCount(rowCount);
+                            digest.setBlockHashSum(hashSum);
+                        }
+                        default -> {
+                            digest.setPermissionCount(rowCount);
+                            digest.setPermissionHashSum(hashSum);
+                        }
+                    }
+                });
+        return digests;
+    }
+
+    /**
+     * 페이지 ID 해시 접두사 버킷에 속한 페이지 ID 목록
+     */
+    public List<UUID> findPageIdsByPrefixes(String dataSourceKey, int prefixLength, Collection<String> prefixes) {
+        return jdbc(dataSourceKey).query(
+                connection -> {
+                    var statement = connection.prepareStatement(PageDigestSql.PAGE_IDS_BY_PREFIX_SQL);
+                    statement.setInt(1, prefixLength);
+                    statement.setArray(2, connection.createArrayOf("text", prefixes.toArray()));
+                    return statement;
+                },
+                (rs, rowNum) -> rs.getObject(1, UUID.class));
+    }
+
+    /**
+     * 여러 페이지와 하위 블록/권한 삭제 (FK 제약조건 순서: 권한 → 블록 → 페이지)
+     * @return 삭제된 페이지 수
+     */
+    public int deletePageData(String dataSourceKey, Collection<UUID> pageIds) {
+        markMigrationWrite(dataSourceKey);
+        deleteByPageIds(dataSourceKey, "DELETE FROM page_permissions WHERE page_id = ANY(?)", pageIds);
+        deleteByPageIds(dataSourceKey, "DELETE FROM blocks WHERE page_id = ANY(?)", pageIds);
+        return deleteByPageIds(dataSourceKey, "DELETE FROM pages WHERE id = ANY(?)", pageIds);
+    }
+
+    /**
+     * MIGRATING 상태이고 펜싱 토큰이 일치하는 페이지들의 마이그레이션 상태 일괄 변경
+     * @return 변경된 페이지 수
+     */
+    public int updateMigratingStatus(String dataSourceKey, Collection<UUID> pageIds, MigrationStatus migrationStatus,
+                                     long fencingToken) {
+        markMigrationWrite(dataSourceKey);
+        return jdbc(dataSourceKey).update(connection -> {
+            var statement = connection.prepareStatement("""
+                    UPDATE pages SET migration_status = ?, updated_at = CURRENT_TIMESTAMP
+                    WHERE id = ANY(?) AND migration_status = 'MIGRATING' AND migration_fence_token = ?
+                    """);
+            statement.setString(1, migrationStatus.name());
+            statement.setArray(2, uuidArray(connection, pageIds));
+            statement.setLong(3, fencingToken);
+            return statement;
+        });
+    }
+
+    /**
+     * Legacy 페이지에 펜싱 토큰 기록 (기존 토큰보다 클 때만)
+     * @return 기록된 페이지 수 - 페이지 수보다 작으면 더 큰 토큰을 가진 작업자가 있다.
+     */
+    public int recordFencingToken(String dataSourceKey, Collection<UUID> pageIds, long fencingToken) {
+        markMigrationWrite(dataSourceKey);
+        return jdbc(dataSourceKey).update(connection -> {
+            var statement = connection.prepareStatement("""
+                    UPDATE pages SET migration_fence_token = ?
+                    WHERE id = ANY(?) AND (migration_fence_token IS NULL OR migration_fence_token < ?)
+                    """);
+            statement.setLong(1, fencingToken);
+            statement.setArray(2, uuidArray(connection, pageIds));
+            statement.setLong(3, fencingToken);
+            return statement;
+        });
+    }
+
+    /**
+     * 샤드 쓰기 전에 페이지별 펜스를 토큰으로 올림 (같거나 큰 토큰만 허용)
+     * 펜스 행 잠금은 샤드 트랜잭션이 끝날 때까지 유지되므로 같은 페이지의 쓰기는 토큰 순서로 직렬화된다.
+     * @return 통과한 페이지 수 - 페이지 수보다 작으면 더 큰 토큰으로 이미 쓴 작업자가 있다.
+     */
+    public int advanceShardFence(String dataSourceKey, Collection<UUID> pageIds, long fencingToken) {
+        return jdbc(dataSourceKey).update(connection -> {
+            var statement = connection.prepareStatement("""
+                    INSERT INTO migration_fence (page_id, token)
+                    SELECT page_id, ? FROM unnest(CAST(? AS uuid[])) AS page_id
+                    ON CONFLICT (page_id) DO UPDATE SET token = EXCLUDED.token, updated_at = CURRENT_TIMESTAMP
+                    WHERE migration_fence.token <= EXCLUDED.token
+                    """);
+            statement.setLong(1, fencingToken);
+            statement.setArray(2, uuidArray(connection, pageIds));
+            return statement;
+        });
+    }
+
+    /**
+     * 현재 Legacy 트랜잭션의 쓰기를 마이그레이션 쓰기로 표시 (트랜잭션이 끝나면 해제)
+     * 변경 로그 트리거는 이 표시가 있으면 기록하지 않는다. (docker/sql/03-change-log.sql)
+     */
+    public void markMigrationWrite(String dataSourceKey) {
+        if (ShardRegistry.LEGACY_KEY.equals(dataSourceKey)) {
+            jdbc(dataSourceKey).queryForObject("SELECT set_config('sharenote.migration_write', 'on', true)", String.class);
+        }
+    }
+
+    private int deleteByPageIds(String dataSourceKey, String sql, Collection<UUID> pageIds) {
+        return jdbc(dataSourceKey).update(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setArray(1, uuidArray(connection, pageIds));
+            return statement;
+        });
+    }
+
+    private JdbcTemplate jdbc(String dataSourceKey) {
+        return shardRegistry.jdbc(dataSourceKey);
+    }
+
+    private static Array uuidArray(Connection connection, Collection<UUID> ids) throws SQLException {
+        return connection.createArrayOf("uuid", ids.toArray());
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static final RowMapper<Page> PAGE_ROW_MAPPER = (rs, rowNum) -> {
+        String migrationStatus = rs.getString("migration_status");
+        return Page.builder()
+                .id(rs.getObject("id", UUID.class))
+                .workspaceId(rs.getObject("workspace_id", UUID.class))
+                .parentPageId(rs.getObject("parent_page_id", UUID.class))
+                .title(rs.getString("title"))
+                .icon(rs.getString("icon"))
+                .cover(rs.getString("cover"))
+                .properties(rs.getString("properties"))
+                .isPublic(rs.getObject("is_public", Boolean.class))
+                .isArchived(rs.getObject("is_archived", Boolean.class))
+                .isTemplate(rs.getObject("is_template", Boolean.class))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .createdBy(rs.getObject("created_by", UUID.class))
+                .lastEditedBy(rs.getObject("last_edited_by", UUID.class))
+                .migrationStatus(migrationStatus != null ? MigrationStatus.valueOf(migrationStatus) : null)
+                .build();
+    };
+
+    private static final RowMapper<Block> BLOCK_ROW_MAPPER = (rs, rowNum) -> Block.builder()
+            .id(rs.getObject("id", UUID.class))
+            .pageId(rs.getObject("page_id", UUID.class))
+            .parentBlockId(rs.getObject("parent_block_id", UUID.class))
+            .type(rs.getString("type"))
+            .content(rs.getString("content"))
+            .position(rs.getInt("position"))
+            .isArchived(rs.getObject("is_archived", Boolean.class))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .createdBy(rs.getObject("created_by", UUID.class))
+            .lastEditedBy(rs.getObject("last_edited_by", UUID.class))
+            .build();
+
+    private static final RowMapper<PagePermission> PERMISSION_ROW_MAPPER = (rs, rowNum) -> {
+        String permissionType = rs.getString("permission_type");
+        return PagePermission.builder()
+                .id(rs.getObject("id", UUID.class))
+                .pageId(rs.getObject("page_id", UUID.class))
+                .userId(rs.getObject("user_id", UUID.class))
+                .permission(permissionType != null ? PagePermissionType.valueOf(permissionType) : null)
+                .grantedAt(toLocalDateTime(rs.getTimestamp("granted_at")))
+                .grantedBy(rs.getObject("granted_by", UUID.class))
+                .build();
+    };
+}
@@ -0,0 +1,82 @@
+package com.sharenote.redistribution.repository.jdbc;
+
+/**
+ * 마이그레이션 데이터 검증용 행 해시/다이제스트 SQL
+ * <p>
+ * 행마다 md5(ROW(...)::text)로 해시를 만들고, id 순서로 이어 붙인 값을 다시 md5로 묶는다.
+ * Legacy와 샤드에서 같은 식을 DB 안에서 계산하므로 행을 JVM으로 가져오지 않고 다이제스트만 비교한다.
+ * 마이그레이션 과정에서 바뀌는 페이지의 migration_status, updated_at은 해시에서 제외한다.
+ */
+public final class PageDigestSql {
+
+    public static final String PAGE_ROW_HASH = """
+            md5(ROW(p.id, p.workspace_id, p.parent_page_id, p.title, p.icon, p.cover, p.properties,
+                    p.is_public, p.is_archived, p.is_template, p.created_at, p.created_by, p.last_edited_by)::text)""";
+
+    public static final String BLOCK_ROW_HASH = """
+            md5(ROW(b.id, b.page_id, b.parent_block_id, b.type, b.content, b.position, b.is_archived,
+                    b.created_at, b.updated_at, b.created_by, b.last_edited_by)::text)""";
+
+    public static final String PERMISSION_ROW_HASH = """
+            md5(ROW(pp.id, pp.page_id, pp.user_id, pp.permission_type, pp.granted_at, pp.granted_by)::text)""";
+
+    /**
+     * 페이지 묶음의 페이지/블록/권한 다이제스트와 행 수를 한 번에 계산 (파라미터: 같은 uuid[] 6회)
+     */
+    public static final String GROUP_DIGEST_SQL = """
+            SELECT
+                (SELECT COUNT(*) FROM pages p WHERE p.id = ANY(?)) AS page_count,
+                (SELECT md5(COALESCE(string_agg(%s, '' ORDER BY p.id), ''))
+                   FROM pages p WHERE p.id = ANY(?)) AS page_digest,
+                (SELECT COUNT(*) FROM blocks b WHERE b.page_id = ANY(?)) AS block_count,
+                (SELECT md5(COALESCE(string_agg(%s, '' ORDER BY b.id), ''))
+                   FROM blocks b WHERE b.page_id = ANY(?)) AS block_digest,
+                (SELECT COUNT(*) FROM page_permissions pp WHERE pp.page_id = ANY(?)) AS permission_count,
+                (SELECT md5(COALESCE(string_agg(%s, '' ORDER BY pp.id), ''))
+                   FROM page_permissions pp WHERE pp.page_id = ANY(?)) AS permission_digest
+            """.formatted(PAGE_ROW_HASH, BLOCK_ROW_HASH, PERMISSION_ROW_HASH);
+
+    /**
+     * 행 해시(md5)의 앞 64비트를 정수로 변환 - 버킷 해시는 이 값들의 합이므로 순서와 데이터베이스에 관계없이 더할 수 있다.
+     */
+    private static final String HASH64 = "CAST(CAST(CAST('x' || substr(%s, 1, 16) AS bit(64)) AS bigint) AS numeric)";
+
+    /**
+     * 버킷 키 = 페이지 ID 해시(md5)의 16진수 문자열
+     * UUIDv7처럼 시간순으로 앞자리가 모이는 ID도 접두사가 고르게 퍼지도록 ID 원문 대신 해시를 쓴다.
+     */
+    private static final String BUCKET_KEY = "md5(CAST(%s AS TEXT))";
+
+    /**
+     * 해시 접두사 버킷별 테이블 행 수와 행 해시 합 (파라미터: 버킷 접두사 길이, 상위 접두사 길이, 상위 접두사 text[] × 3)
+     * 블록/권한은 page_id 기준으로 버킷을 나누어 한 페이지의 데이터가 항상 같은 버킷에 속하게 한다.
+     */
+    public static final String BUCKET_DIGEST_SQL = """
+            SELECT bucket, 'pages' AS table_name, COUNT(*) AS row_count, SUM(row_hash) AS hash_sum FROM (
+                SELECT substr(%s, 1, ?) AS bucket, %s AS row_hash
+                FROM pages p WHERE substr(%s, 1, ?) = ANY(?)
+            ) t GROUP BY bucket
+            UNION ALL
+            SELECT bucket, 'blocks', COUNT(*), SUM(row_hash) FROM (
+                SELECT substr(%s, 1, ?) AS bucket, %s AS row_hash
+                FROM blocks b WHERE substr(%s, 1, ?) = ANY(?)
+            ) t GROUP BY bucket
+            UNION ALL
+            SELECT bucket, 'page_permissions', COUNT(*), SUM(row_hash) FROM (
+                SELECT substr(%s, 1, ?) AS bucket, %s AS row_hash
+                FROM page_permissions pp WHERE substr(%s, 1, ?) = ANY(?)
+            ) t GROUP BY bucket
+            """.formatted(
+            BUCKET_KEY.formatted("p.id"), HASH64.formatted(PAGE_ROW_HASH), BUCKET_KEY.formatted("p.id"),
+            BUCKET_KEY.formatted("b.page_id"), HASH64.formatted(BLOCK_ROW_HASH), BUCKET_KEY.formatted("b.page_id"),
+            BUCKET_KEY.formatted("pp.page_id"), HASH64.formatted(PERMISSION_ROW_HASH), BUCKET_KEY.formatted("pp.page_id"));
+
+    /**
+     * 해시 접두사 버킷에 속한 페이지 ID 목록 (파라미터: 접두사 길이, 접두사 text[])
+     */
+    public static final String PAGE_IDS_BY_PREFIX_SQL =
+            "SELECT id FROM pages WHERE substr(" + BUCKET_KEY.formatted("id") + ", 1, ?) = ANY(?)";
+
+    private PageDigestSql() {
+    }
+}
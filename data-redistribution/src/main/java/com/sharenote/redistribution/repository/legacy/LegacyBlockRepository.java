@@ -19,6 +19,12 @@ public interface LegacyBlockRepository extends JpaRepository<Block, UUID> {
     @Query("SELECT b FROM Block b WHERE b.pageId = :pageId ORDER BY b.position ASC")
     List<Block> findByPageIdOrderByPosition(@Param("pageId") UUID pageId);
 
+    /**
+     * 페이지별 블록 개수 조회
+     */
+    @Query("SELECT COUNT(b) FROM Block b WHERE b.pageId = :pageId")
+    long countByPageId(@Param("pageId") UUID pageId);
+
     /**
      * 페이지별 블록 삭제
      */
@@ -2,26 +2,19 @@ package com.sharenote.redistribution.repository.legacy;
 
 import com.sharenote.redistribution.entity.Page;
 import com.sharenote.redistribution.enums.MigrationStatus;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface LegacyPageRepository extends JpaRepository<Page, UUID> {
 
-    /**
-     * 마이그레이션 상태별 페이지 조회 (수정날짜 오름차순)
-     */
-    @Query("SELECT p FROM Page p WHERE p.migrationStatus = :migrationStatus ORDER BY p.updatedAt ASC")
-    org.springframework.data.domain.Page<Page> findByMigrationStatusOrderByUpdatedAtAsc(
-            @Param("migrationStatus") MigrationStatus migrationStatus, Pageable pageable
-    );
-
     /**
      * 특정 페이지의 마이그레이션 상태만 업데이트
      */
@@ -33,12 +26,51 @@ public interface LegacyPageRepository extends JpaRepository<Page, UUID> {
     );
 
     /**
-     * 마이그레이션 상태별 페이지 개수 조회
+     * 마이그레이션 상태별 페이지 개수 조회 (한 번의 GROUP BY) - [상태, 개수] 목록
      */
-    @Query("SELECT COUNT(p) FROM Page p WHERE p.migrationStatus = :migrationStatus")
-    long countByMigrationStatus(@Param("migrationStatus") MigrationStatus migrationStatus);
+    @Query("SELECT p.migrationStatus, COUNT(p) FROM Page p GROUP BY p.migrationStatus")
+    List<Object[]> countGroupByMigrationStatus();
 
     @Modifying
     @Query("UPDATE Page p SET p.migrationStatus = 'READY' WHERE p.migrationStatus = 'MIGRATING'")
     void updateAllMigratingPagesToReady();
+
+    /**
+     * 지정한 파티션에서 마이그레이션 대상 페이지를 원자적으로 선점 (수정날짜 오름차순)
+     * FOR UPDATE SKIP LOCKED로 다른 워커/인스턴스가 잠근 행은 건너뛰고, 선점한 행은 즉시 MIGRATING으로 변경한다.
+     * 전체 COUNT 없이 배치 크기만큼만 읽는다.
+     * 파티션 번호 = (hashtext(id::text) & 0x7FFFFFFF) % partitionCount
+     */
+    @Query(value = """
+            UPDATE pages SET migration_status = 'MIGRATING', updated_at = CURRENT_TIMESTAMP
+            WHERE id IN (
+                SELECT id FROM pages
+                WHERE migration_status = :migrationStatus
+                  AND (hashtext(CAST(id AS TEXT)) & 2147483647) % :partitionCount IN (:partitions)
+                ORDER BY updated_at ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<Page> claimByMigrationStatusInPartitions(
+            @Param("migrationStatus") String migrationStatus,
+            @Param("partitionCount") int partitionCount,
+            @Param("partitions") Collection<Integer> partitions,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 지정한 파티션에 속한 MIGRATING 페이지만 READY로 재설정
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE pages SET migration_status = 'READY'
+            WHERE migration_status = 'MIGRATING'
+              AND (hashtext(CAST(id AS TEXT)) & 2147483647) % :partitionCount IN (:partitions)
+            """, nativeQuery = true)
+    int updateMigratingPagesToReadyInPartitions(
+            @Param("partitionCount") int partitionCount,
+            @Param("partitions") Collection<Integer> partitions
+    );
 }
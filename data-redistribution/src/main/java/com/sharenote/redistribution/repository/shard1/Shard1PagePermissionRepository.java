@@ -1,27 +0,0 @@
-package com.sharenote.redistribution.repository.shard1;
-
-import com.sharenote.redistribution.entity.PagePermission;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
-
-import java.util.UUID;
-
-@Repository
-public interface Shard1PagePermissionRepository extends JpaRepository<PagePermission, UUID> {
-
-    /**
-     * 페이지별 권한 개수 조회
-     */
-    @Query("SELECT COUNT(pp) FROM PagePermission pp WHERE pp.pageId = :pageId")
-    long countByPageId(@Param("pageId") UUID pageId);
-
-    /**
-     * 페이지별 권한 삭제
-     */
-    @Modifying
-    @Query("DELETE FROM PagePermission pp WHERE pp.pageId = :pageId")
-    int deleteByPageId(@Param("pageId") UUID pageId);
-}
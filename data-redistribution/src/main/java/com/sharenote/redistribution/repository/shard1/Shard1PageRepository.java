@@ -1,11 +0,0 @@
-package com.sharenote.redistribution.repository.shard1;
-
-import com.sharenote.redistribution.entity.Page;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.UUID;
-
-@Repository
-public interface Shard1PageRepository extends JpaRepository<Page, UUID> {
-}
\ No newline at end of file
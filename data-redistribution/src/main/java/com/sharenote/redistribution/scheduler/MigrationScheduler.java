@@ -1,5 +1,6 @@
 package com.sharenote.redistribution.scheduler;
 
+import com.sharenote.redistribution.service.lock.PartitionLeaseService;
 import com.sharenote.redistribution.service.migration.MigrationProgressService;
 import com.sharenote.redistribution.service.migration.MigrationService;
 import com.sharenote.redistribution.service.migration.MigrationTransactionService;
@@ -17,12 +18,14 @@ public class MigrationScheduler {
     private final MigrationService migrationService;
     private final MigrationProgressService migrationProgressService;
     private final MigrationTransactionService migrationTransactionService;
+    private final PartitionLeaseService partitionLeaseService;
 
     private volatile boolean migrationRunning = false;
     private final Object migrationLock = new Object();
 
     /**
      * 주기적으로 마이그레이션을 실행하는 스케줄러
+     * migrationRunning 플래그는 JVM 내 중복 실행만 막고, 인스턴스 간 작업 분할은 파티션 임대로 처리한다.
      */
     @Scheduled(fixedRate = 300000) // 5분마다 실행
     public void scheduledMigration() {
@@ -42,7 +45,13 @@ public class MigrationScheduler {
         }
 
         try {
-            log.info("스케줄된 마이그레이션을 시작합니다.");
+            partitionLeaseService.claimPartitions();
+            if (partitionLeaseService.getOwnedPartitions().isEmpty()) {
+                log.info("모든 파티션을 다른 인스턴스가 임대 중이므로 이번 실행을 건너뜁니다.");
+                return;
+            }
+
+            log.info("스케줄된 마이그레이션을 시작합니다. 파티션: {}", partitionLeaseService.getOwnedPartitions());
             migrationProgressService.logMigrationStatus();
 
             migrationService.resetMigratingStatus();
@@ -53,6 +62,7 @@ public class MigrationScheduler {
         } catch (Exception e) {
             log.error("스케줄된 마이그레이션 중 오류가 발생했습니다.",e);
         }finally {
+            partitionLeaseService.releaseAll();
             synchronized (migrationLock) {
                 migrationRunning = false;
             }
@@ -0,0 +1,211 @@
+package com.sharenote.redistribution.service.audit;
+
+import com.sharenote.redistribution.dto.response.MigrationAuditReport;
+import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.repository.jdbc.PageDataJdbcRepository;
+import com.sharenote.redistribution.service.migration.vo.BucketDigestVo;
+import com.sharenote.redistribution.service.shard.ShardRegistry;
+import com.sharenote.redistribution.service.shard.ShardService;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Legacy/샤드 간 머클 트리 감사 (anti-entropy)
+ * <p>
+ * 페이지 ID 해시(md5)의 접두사(16진수 한 글자씩)로 트리를 만들고, 버킷 값은 행 해시의 합으로 계산한다.
+ * ID 원문 대신 해시를 쓰므로 UUIDv7처럼 앞자리가 시간순으로 모이는 ID도 리프 버킷에 고르게 퍼진다.
+ * 합은 데이터베이스 간에 더할 수 있으므로 "Legacy + 모든 샤드" 합집합의 트리를 각 DB 집계만으로 구할 수 있다.
+ * 1. 기준 저장: 마이그레이션 전(또는 일시 정지 중) 합집합의 리프 버킷 값을 Redis에 저장
+ * 2. 감사: 최상위부터 모든 DB에 동시에 집계 쿼리를 보내 기준과 비교하고, 불일치한 버킷의 하위만 내려가며 반복
+ * 3. 불일치 리프: 페이지 ID만 조회해 중복 존재/잘못된 샤드 배치를 확인
+ * 일치하는 버킷은 더 내려가지 않으므로 대부분 집계 결과 몇 행만 주고받는다.
+ * 기준 저장 이후 서비스 쓰기가 있으면 해당 버킷도 불일치로 보고된다.
+ */
+@Slf4j
+@Service
+public class MerkleAuditService {
+    private final PageDataJdbcRepository pageDataJdbcRepository;
+    private final ShardService shardService;
+    private final ShardRegistry shardRegistry;
+    private final MigrationProperties migrationProperties;
+    private final RedissonClient redissonClient;
+    private final ThreadPoolTaskExecutor auditExecutor;
+
+    // 버킷 키를 ID 접두사에서 해시 접두사로 바꾸면서 이전 기준과 섞이지 않도록 키를 분리 (이전 기준은 다시 저장해야 함)
+    private static final String BASELINE_KEY = "sharenote:migration:audit:hash-baseline";
+    private static final String BASELINE_CAPTURED_AT_KEY = "sharenote:migration:audit:hash-baseline:captured-at";
+    private static final String ROOT_PREFIX = "";
+
+    public MerkleAuditService(PageDataJdbcRepository pageDataJdbcRepository,
+                              ShardService shardService,
+                              ShardRegistry shardRegistry,
+                              MigrationProperties migrationProperties,
+                              RedissonClient redissonClient,
+                              @Qualifier("auditExecutor") ThreadPoolTaskExecutor auditExecutor) {
+        this.pageDataJdbcRepository = pageDataJdbcRepository;
+        this.shardService = shardService;
+        this.shardRegistry = shardRegistry;
+        this.migrationProperties = migrationProperties;
+        this.redissonClient = redissonClient;
+        this.auditExecutor = auditExecutor;
+    }
+
+    /**
+     * 현재 합집합의 리프 버킷 값을 감사 기준으로 저장
+     * @return 저장한 리프 버킷 수
+     */
+    public int captureBaseline() {
+        int depth = migrationProperties.getAudit().getDepth();
+        Map<String, BucketDigestVo> leaves = computeUnion(depth, List.of(ROOT_PREFIX));
+
+        RMap<String, String> baseline = redissonClient.getMap(BASELINE_KEY, StringCodec.INSTANCE);
+        baseline.delete();
+        baseline.putAll(leaves.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toToken())));
+        redissonClient.<String>getBucket(BASELINE_CAPTURED_AT_KEY, StringCodec.INSTANCE)
+                .set(LocalDateTime.now().toString());
+
+        log.info("머클 감사 기준 저장 완료 - 깊이: {}, 리프 버킷: {}개", depth, leaves.size());
+        return leaves.size();
+    }
+
+    /**
+     * 저장된 기준과 현재 합집합을 비교
+     */
+    public MigrationAuditReport audit() {
+        int depth = migrationProperties.getAudit().getDepth();
+        Map<String, BucketDigestVo> baselineLeaves = loadBaseline();
+
+        List<String> parents = List.of(ROOT_PREFIX);
+        List<String> mismatched = List.of();
+        long comparedBuckets = 0;
+
+        for (int level = 1; level <= depth && !parents.isEmpty(); level++) {
+            Map<String, BucketDigestVo> current = computeUnion(level, parents);
+            Map<String, BucketDigestVo> expected = aggregate(baselineLeaves, level, parents);
+
+            Set<String> buckets = new TreeSet<>(expected.keySet());
+            buckets.addAll(current.keySet());
+            comparedBuckets += buckets.size();
+
+            mismatched = buckets.stream()
+                    .filter(bucket -> !Objects.equals(
+                            expected.getOrDefault(bucket, BucketDigestVo.empty()),
+                            current.getOrDefault(bucket, BucketDigestVo.empty())))
+                    .toList();
+
+            log.info("머클 감사 레벨 {} - 비교: {}개, 불일치: {}개", level, buckets.size(), mismatched.size());
+            parents = mismatched;
+        }
+
+        MigrationAuditReport report = MigrationAuditReport.builder()
+                .baselineCapturedAt(loadBaselineCapturedAt())
+                .depth(depth)
+                .comparedBuckets(comparedBuckets)
+                .mismatchedLeaves(new ArrayList<>(mismatched))
+                .build();
+
+        if (!mismatched.isEmpty()) {
+            inspectLeaves(report, mismatched.subList(0,
+                    Math.min(mismatched.size(), migrationProperties.getAudit().getMaxReportedLeaves())), depth);
+        }
+
+        log.info("머클 감사 완료 - 일치 여부: {}, 불일치 리프: {}개, 중복 페이지: {}개, 잘못 배치된 페이지: {}개",
+                report.isConsistent(), report.getMismatchedLeaves().size(),
+                report.getDuplicatedPages().size(), report.getMisplacedPages().size());
+        return report;
+    }
+
+    /**
+     * 세 데이터베이스의 버킷 값을 동시에 계산하여 합산
+     */
+    private Map<String, BucketDigestVo> computeUnion(int prefixLength, List<String> parentPrefixes) {
+        List<CompletableFuture<Map<String, BucketDigestVo>>> futures = shardRegistry.getDataSourceKeys().stream()
+                .map(key -> CompletableFuture.supplyAsync(
+                        () -> pageDataJdbcRepository.computeBucketDigests(key, prefixLength, parentPrefixes),
+                        auditExecutor))
+                .toList();
+
+        Map<String, BucketDigestVo> union = new HashMap<>();
+        for (CompletableFuture<Map<String, BucketDigestVo>> future : futures) {
+            future.join().forEach((bucket, digest) -> union.merge(bucket, digest, BucketDigestVo::plus));
+        }
+        return union;
+    }
+
+    /**
+     * 기준 리프 값을 지정 레벨 버킷으로 합산 (상위 접두사에 속한 버킷만)
+     */
+    private static Map<String, BucketDigestVo> aggregate(Map<String, BucketDigestVo> leaves, int level,
+                                                         List<String> parentPrefixes) {
+        Set<String> parents = new HashSet<>(parentPrefixes);
+        Map<String, BucketDigestVo> aggregated = new HashMap<>();
+        leaves.forEach((leaf, digest) -> {
+            if (parents.contains(leaf.substring(0, level - 1))) {
+                aggregated.merge(leaf.substring(0, level), digest, BucketDigestVo::plus);
+            }
+        });
+        return aggregated;
+    }
+
+    /**
+     * 불일치 리프의 페이지 위치 확인 (중복 존재, 잘못된 샤드)
+     */
+    private void inspectLeaves(MigrationAuditReport report, List<String> leaves, int depth) {
+        Map<String, CompletableFuture<List<UUID>>> futures = new LinkedHashMap<>();
+        shardRegistry.getDataSourceKeys().forEach(key -> futures.put(key, CompletableFuture.supplyAsync(
+                () -> pageDataJdbcRepository.findPageIdsByPrefixes(key, depth, leaves), auditExecutor)));
+
+        Map<UUID, List<String>> locations = new TreeMap<>();
+        futures.forEach((key, future) ->
+                future.join().forEach(pageId -> locations.computeIfAbsent(pageId, id -> new ArrayList<>()).add(key)));
+
+        locations.forEach((pageId, dataSourceKeys) -> {
+            if (dataSourceKeys.size() > 1) {
+                report.getDuplicatedPages().add(pageId);
+            }
+            // Legacy에 남은 페이지는 아직 마이그레이션 전일 수 있으므로 샤드에 있는 페이지만 배치 규칙을 확인
+            String targetShard = shardService.determineTargetShard(pageId);
+            dataSourceKeys.stream()
+                    .filter(key -> !"legacy".equals(key) && !key.equals(targetShard))
+                    .findAny()
+                    .ifPresent(key -> report.getMisplacedPages().add(pageId));
+        });
+    }
+
+    private Map<String, BucketDigestVo> loadBaseline() {
+        RMap<String, String> baseline = redissonClient.getMap(BASELINE_KEY, StringCodec.INSTANCE);
+        Map<String, String> tokens = baseline.readAllMap();
+        if (tokens.isEmpty()) {
+            throw new MigrationException("저장된 감사 기준이 없습니다. 먼저 기준을 저장하세요.");
+        }
+
+        int depth = migrationProperties.getAudit().getDepth();
+        Map<String, BucketDigestVo> leaves = new HashMap<>();
+        tokens.forEach((leaf, token) -> {
+            if (leaf.length() != depth) {
+                throw new MigrationException("감사 기준의 깊이(" + leaf.length() + ")가 현재 설정(" + depth + ")과 다릅니다.");
+            }
+            leaves.put(leaf, BucketDigestVo.fromToken(token));
+        });
+        return leaves;
+    }
+
+    private LocalDateTime loadBaselineCapturedAt() {
+        RBucket<String> capturedAt = redissonClient.getBucket(BASELINE_CAPTURED_AT_KEY, StringCodec.INSTANCE);
+        String value = capturedAt.get();
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
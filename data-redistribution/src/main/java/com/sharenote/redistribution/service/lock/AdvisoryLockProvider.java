@@ -0,0 +1,176 @@
+package com.sharenote.redistribution.service.lock;
+
+import com.sharenote.redistribution.exception.custom.DistributedLockException;
+import com.sharenote.redistribution.exception.custom.LockAcquisitionException;
+import com.sharenote.redistribution.properties.RedissonProperties;
+import com.sharenote.redistribution.service.migration.MigrationMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * PostgreSQL advisory lock 기반 락 제공자 (Redis 장애 시 대체)
+ * <p>
+ * Legacy 데이터베이스의 세션 단위 pg_try_advisory_lock을 사용한다.
+ * 1. 락 키를 64비트 정수로 변환 (락 키 접두사 포함 문자열의 name-based UUID 상위 64비트)
+ * 2. 트랜잭션과 분리된 전용 커넥션에서 획득하고 작업이 끝나면 같은 커넥션에서 해제
+ * 3. 프로세스가 죽으면 세션 종료로 자동 해제되므로 유지시간(leaseTime)은 사용하지 않는다.
+ * 락을 잡는 동안 Legacy 커넥션을 하나 더 점유하므로 워커 수만큼 Legacy 풀에 여유가 있어야 한다.
+ * Redis 락과는 서로 배타적이지 않고 전환은 인스턴스마다 자신의 상태 감시 결과로 결정하므로,
+ * 여러 인스턴스가 동시에 돌 때는 서로 다른 제공자를 쓰게 될 수 있다. 펜싱 토큰은 늦은 쪽의 쓰기만 막을 뿐
+ * 상호 배제를 보장하지 않으므로 대체는 기본으로 꺼져 있고, 인스턴스가 하나일 때만 켠다.
+ */
+@Slf4j
+@Component
+public class AdvisoryLockProvider implements LockProvider {
+    private final DataSource legacyDataSource;
+    private final RedissonProperties redissonProperties;
+    private final MigrationMetrics migrationMetrics;
+
+    private static final long RETRY_INTERVAL_MILLIS = 100;
+
+    public AdvisoryLockProvider(@Qualifier("legacyDataSource") DataSource legacyDataSource,
+                                RedissonProperties redissonProperties,
+                                MigrationMetrics migrationMetrics) {
+        this.legacyDataSource = legacyDataSource;
+        this.redissonProperties = redissonProperties;
+        this.migrationMetrics = migrationMetrics;
+    }
+
+    @Override
+    public String getName() {
+        return "advisory";
+    }
+
+    @Override
+    public <T> T executeWithLock(String lockKey, long waitTime, long leaseTime, Supplier<T> task) {
+        return executeWithBatchLock(List.of(lockKey), waitTime, leaseTime, true, acquiredKeys -> task.get());
+    }
+
+    @Override
+    public <T> T executeWithMultiLock(Collection<String> lockKeys, long waitTime, long leaseTime, Supplier<T> task) {
+        return executeWithBatchLock(lockKeys, waitTime, leaseTime, true, acquiredKeys -> task.get());
+    }
+
+    /**
+     * 여러 advisory lock을 쿼리 한 번으로 획득하고 작업을 실행 (시도당 왕복 1회)
+     * requireAll인데 일부만 잡히면 잡은 락을 바로 풀고 대기시간 안에서 다시 시도한다.
+     */
+    @Override
+    public <T> T executeWithBatchLock(Collection<String> lockKeys, long waitTime, long leaseTime,
+                                      boolean requireAll, Function<Set<String>, T> task) {
+        Map<String, Long> lockIdsByKey = new LinkedHashMap<>();
+        lockKeys.forEach(lockKey -> lockIdsByKey.put(lockKey, toLockId(redissonProperties.getLock().buildLockKey(lockKey))));
+        Long[] lockIds = new LinkedHashSet<>(lockIdsByKey.values()).toArray(Long[]::new);
+        String description = "AdvisoryLock(" + lockIds.length + "개)";
+
+        Connection connection;
+        try {
+            connection = legacyDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new DistributedLockException("advisory lock 커넥션 획득 실패: " + description, e);
+        }
+
+        Set<Long> acquiredIds = Set.of();
+        try {
+            long waitStartedAt = System.nanoTime();
+            long deadline = waitStartedAt + TimeUnit.SECONDS.toNanos(waitTime);
+            while (true) {
+                acquiredIds = tryLock(connection, lockIds);
+                if (acquiredIds.size() == lockIds.length || (!requireAll && !acquiredIds.isEmpty())) {
+                    break;
+                }
+                if (!acquiredIds.isEmpty()) {
+                    unlock(connection, acquiredIds);
+                    acquiredIds = Set.of();
+                }
+                if (!requireAll || System.nanoTime() >= deadline) {
+                    break;
+                }
+                Thread.sleep(RETRY_INTERVAL_MILLIS);
+            }
+            migrationMetrics.recordLockWait(getName(), !acquiredIds.isEmpty(), System.nanoTime() - waitStartedAt);
+
+            if (acquiredIds.isEmpty()) {
+                log.error("advisory lock 획득 실패: {} - 다른 프로세스에서 사용 중일 수 있습니다", description);
+                throw new LockAcquisitionException("advisory lock 획득에 실패했습니다: " + description);
+            }
+            log.debug("advisory lock 획득: {} 중 {}개", description, acquiredIds.size());
+
+            Set<String> acquired = new LinkedHashSet<>();
+            for (Map.Entry<String, Long> entry : lockIdsByKey.entrySet()) {
+                if (acquiredIds.contains(entry.getValue())) {
+                    acquired.add(entry.getKey());
+                }
+            }
+            return task.apply(acquired);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockAcquisitionException("advisory lock 획득 중 인터럽트가 발생했습니다: " + description, e);
+
+        } catch (SQLException e) {
+            throw new DistributedLockException("advisory lock 처리 중 오류가 발생했습니다: " + description, e);
+
+        } finally {
+            release(connection, acquiredIds, description);
+        }
+    }
+
+    private Set<Long> tryLock(Connection connection, Long[] lockIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM unnest(?) AS id WHERE pg_try_advisory_lock(id)")) {
+            statement.setArray(1, connection.createArrayOf("bigint", lockIds));
+            Set<Long> acquired = new LinkedHashSet<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    acquired.add(resultSet.getLong(1));
+                }
+            }
+            return acquired;
+        }
+    }
+
+    private void unlock(Connection connection, Set<Long> lockIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT pg_advisory_unlock(id) FROM unnest(?) AS id")) {
+            statement.setArray(1, connection.createArrayOf("bigint", lockIds.toArray(Long[]::new)));
+            statement.execute();
+        }
+    }
+
+    /**
+     * 락 해제 후 커넥션 반납 - 해제에 실패하면 락이 남은 세션이 풀로 돌아가지 않도록 커넥션을 폐기한다.
+     */
+    private void release(Connection connection, Set<Long> acquiredIds, String description) {
+        try {
+            if (!acquiredIds.isEmpty()) {
+                unlock(connection, acquiredIds);
+                log.debug("advisory lock 해제 완료: {}", description);
+            }
+            connection.close();
+        } catch (SQLException e) {
+            log.error("advisory lock 해제 중 오류 발생, 커넥션을 폐기합니다: {}", description, e);
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException abortFailure) {
+                log.error("advisory lock 커넥션 폐기 실패 (무시함): {}", description, abortFailure);
+            }
+        }
+    }
+
+    private static long toLockId(String fullLockKey) {
+        return UUID.nameUUIDFromBytes(fullLockKey.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+    }
+}
@@ -1,24 +1,35 @@
 package com.sharenote.redistribution.service.lock;
 
-import com.sharenote.redistribution.exception.custom.DistributedLockException;
 import com.sharenote.redistribution.exception.custom.LockAcquisitionException;
 import com.sharenote.redistribution.exception.custom.RedisConnectionException;
 import com.sharenote.redistribution.properties.RedissonProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBucket;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * 분산락 서비스
+ * <p>
+ * Redis 상태에 따라 락 제공자를 골라 위임한다.
+ * 1. Redis 사용 가능: RedisLockProvider
+ * 2. Redis 사용 불가 (상태 감시 결과) 또는 락 획득 중 Redis 통신 오류: AdvisoryLockProvider (Legacy PostgreSQL)
+ * 작업이 이미 시작된 뒤의 Redis 오류는 작업을 두 번 실행하지 않도록 대체하지 않고 그대로 던진다.
+ * 대체가 꺼져 있으면(기본값) 기존처럼 RedisConnectionException으로 마이그레이션을 중단시킨다.
+ * 제공자 선택은 인스턴스별 판단이라 여러 인스턴스가 서로 다른 제공자로 같은 페이지를 잡을 수 있으므로 단일 인스턴스에서만 켠다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class DistributedLockService {
-    private final RedissonClient redissonClient;
+public class DistributedLockService implements RedisHealthListener {
+    private final RedisLockProvider redisLockProvider;
+    private final AdvisoryLockProvider advisoryLockProvider;
+    private final RedisHealthMonitor redisHealthMonitor;
     private final RedissonProperties redissonProperties;
 
     /**
@@ -28,57 +39,13 @@ public class DistributedLockService {
      * @param leaseTime 락 유지시간 (초)
      * @param task      실행할 작업
      * @return 작업 결과
-     * @throws RedisConnectionException Redis 연결 실패 시
+     * @throws RedisConnectionException Redis 연결 실패 시 (대체가 꺼져 있는 경우)
      * @throws LockAcquisitionException 락 획득 실패 시
      */
     public <T> T executeWithLock(String lockKey, long waitTime, long leaseTime, Supplier<T> task) {
-        // 1. Redis 연결 상태 확인
-        validateRedisConnection();
-
-        String fullLockKey = redissonProperties.getLock().buildLockKey(lockKey);
-        RLock lock = redissonClient.getLock(fullLockKey);
-
-        try {
-            log.debug("분산락 획득 시도: {} (대기: {}초, 유지: {}초)", fullLockKey, waitTime, leaseTime);
-
-            boolean acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
-
-            if (!acquired) {
-                log.error("락 획득 실패 (타임아웃): {} - 다른 프로세스에서 이미 사용 중일 수 있습니다", fullLockKey);
-                throw new LockAcquisitionException("락 획득에 실패했습니다: " + fullLockKey);
-            }
-
-            log.debug("분산락 획득 성공: {}", fullLockKey);
-
-            // 2. 락 획득 후 다시 한번 연결 상태 확인
-            validateRedisConnection();
-
-            return task.get();
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("락 획득 중 인터럽트 발생: {}", fullLockKey, e);
-            throw new LockAcquisitionException("락 획득 중 인터럽트가 발생했습니다: " + fullLockKey, e);
-
-        } catch (LockAcquisitionException | RedisConnectionException e) {
-            // 이미 정의된 예외들은 그대로 재던짐
-            throw e;
-
-        } catch (Exception e) {
-            // Redis 네트워크 오류나 기타 예상치 못한 예외
-            log.error("분산락 처리 중 예상치 못한 오류 발생: {}", fullLockKey, e);
-
-            // Redis 관련 예외인지 확인
-            if (isRedisRelatedError(e)) {
-                throw new RedisConnectionException("Redis 통신 중 오류 발생: " + fullLockKey, e);
-            } else {
-                throw new DistributedLockException("분산락 처리 중 오류가 발생했습니다: " + fullLockKey, e);
-            }
-
-        } finally {
-            // 3. 락 해제
-            releaseLockSafely(lock, fullLockKey);
-        }
+        AtomicBoolean started = new AtomicBoolean();
+        Supplier<T> trackedTask = track(started, task);
+        return execute(started, provider -> provider.executeWithLock(lockKey, waitTime, leaseTime, trackedTask));
     }
 
     /**
@@ -92,61 +59,71 @@ public class DistributedLockService {
     }
 
     /**
-     * Redis 연결 상태를 검증하는 메서드
-     * @throws RedisConnectionException Redis 연결 실패 시
+     * 여러 락 키를 모두 획득하고 작업을 실행하는 메서드
+     * 락 키는 단일 락과 같으므로 페이지 단위 마이그레이션과 서로 배타적이다.
      */
-    private void validateRedisConnection() {
-        if (redissonClient.isShutdown()) {
-            log.error("RedissonClient가 종료된 상태입니다");
-            throw new RedisConnectionException("RedissonClient가 종료되었습니다");
-        }
+    public <T> T executeWithMultiLock(Collection<String> lockKeys, long waitTime, long leaseTime, Supplier<T> task) {
+        AtomicBoolean started = new AtomicBoolean();
+        Supplier<T> trackedTask = track(started, task);
+        return execute(started, provider -> provider.executeWithMultiLock(lockKeys, waitTime, leaseTime, trackedTask));
+    }
 
-        try {
-            // 단일 서버 모드에서 연결 상태 확인
-            RBucket<String> testBucket = redissonClient.getBucket("__health_check__");
-            testBucket.set("pong", 1, TimeUnit.SECONDS);
+    /**
+     * 여러 락 키를 일괄 획득하고 작업을 실행하는 메서드 (시도당 왕복 1회)
+     * @param requireAll true면 전부 획득할 때까지 재시도하고, false면 획득한 키만으로 작업을 실행
+     * @param task       획득한 락 키 집합을 받아 실행할 작업
+     */
+    public <T> T executeWithBatchLock(Collection<String> lockKeys, long waitTime, long leaseTime,
+                                      boolean requireAll, Function<Set<String>, T> task) {
+        AtomicBoolean started = new AtomicBoolean();
+        Function<Set<String>, T> trackedTask = acquiredKeys -> {
+            started.set(true);
+            return task.apply(acquiredKeys);
+        };
+        return execute(started, provider ->
+                provider.executeWithBatchLock(lockKeys, waitTime, leaseTime, requireAll, trackedTask));
+    }
 
-            log.trace("Redis 연결 상태 확인 완료");
+    /**
+     * 현재 사용할 락 제공자
+     */
+    public LockProvider getActiveProvider() {
+        return isFallbackEnabled() && !redisHealthMonitor.isAvailable() ? advisoryLockProvider : redisLockProvider;
+    }
 
-        } catch (Exception e) {
-            log.error("Redis 연결 확인 실패", e);
-            throw new RedisConnectionException("Redis와의 연결이 끊어졌습니다", e);
+    @Override
+    public void onStateChange(RedisHealthMonitor.State previous, RedisHealthMonitor.State current) {
+        if (!isFallbackEnabled()) {
+            return;
+        }
+        if (current == RedisHealthMonitor.State.DOWN) {
+            log.warn("Redis 사용 불가 - 분산락을 PostgreSQL advisory lock으로 전환합니다.");
+        } else {
+            log.info("Redis 복구 - 분산락을 Redis로 되돌립니다.");
         }
     }
 
-    /**
-     * 안전한 락 해제 메서드
-     */
-    private void releaseLockSafely(RLock lock, String fullLockKey) {
+    private <T> T execute(AtomicBoolean started, Function<LockProvider, T> call) {
+        LockProvider provider = getActiveProvider();
         try {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.debug("분산락 해제 완료: {}", fullLockKey);
-            } else {
-                log.warn("현재 스레드가 보유하지 않은 락 해제 시도: {}", fullLockKey);
+            return call.apply(provider);
+        } catch (RedisConnectionException e) {
+            if (provider != redisLockProvider || !isFallbackEnabled() || started.get()) {
+                throw e;
             }
-        } catch (Exception e) {
-            log.error("분산락 해제 중 오류 발생 (무시함): {}", fullLockKey, e);
-            // 락 해제 실패는 로그만 남기고 예외를 던지지 않음
-            // Watchdog이 자동으로 만료시킬 것임
+            log.warn("Redis 락 획득 중 통신 오류 - PostgreSQL advisory lock으로 다시 시도합니다. ({})", e.getMessage());
+            return call.apply(advisoryLockProvider);
         }
     }
 
-    /**
-     * Redis 관련 오류인지 확인하는 메서드
-     */
-    private boolean isRedisRelatedError(Exception e) {
-        String errorMessage = e.getMessage();
-        String exceptionClass = e.getClass().getSimpleName();
+    private boolean isFallbackEnabled() {
+        return redissonProperties.getLock().isFallbackEnabled();
+    }
 
-        // Redis/Netty/연결 관련 예외 패턴 확인
-        return errorMessage != null && (
-                errorMessage.contains("connection") ||
-                        errorMessage.contains("redis") ||
-                        errorMessage.contains("timeout") ||
-                        errorMessage.contains("network")
-        ) || exceptionClass.contains("Redis") ||
-                exceptionClass.contains("Netty") ||
-                exceptionClass.contains("Connection");
+    private static <T> Supplier<T> track(AtomicBoolean started, Supplier<T> task) {
+        return () -> {
+            started.set(true);
+            return task.get();
+        };
     }
 }
@@ -0,0 +1,32 @@
+package com.sharenote.redistribution.service.lock;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+
+/**
+ * 펜싱 토큰 발급
+ * <p>
+ * 락을 획득할 때마다 Legacy 시퀀스에서 단조 증가하는 토큰을 받는다.
+ * Redis가 재시작되어도 토큰이 되돌아가지 않도록 Redis가 아닌 Legacy 데이터베이스에서 발급한다.
+ * 토큰은 Legacy pages.migration_fence_token과 샤드 migration_fence에 기록되고,
+ * 더 큰 토큰이 기록된 페이지에 대한 쓰기는 거부된다. (docker/sql/04-fencing.sql)
+ */
+@Service
+public class FencingTokenService {
+    private final JdbcTemplate legacyJdbcTemplate;
+
+    public FencingTokenService(@Qualifier("legacyDataSource") DataSource legacyDataSource) {
+        this.legacyJdbcTemplate = new JdbcTemplate(legacyDataSource);
+    }
+
+    /**
+     * 새 펜싱 토큰 발급 (시퀀스는 트랜잭션 롤백과 관계없이 증가)
+     */
+    public long issue() {
+        Long token = legacyJdbcTemplate.queryForObject("SELECT nextval('migration_fencing_token_seq')", Long.class);
+        return token != null ? token : 0L;
+    }
+}
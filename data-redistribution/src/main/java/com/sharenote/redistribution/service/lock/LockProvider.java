@@ -0,0 +1,38 @@
+package com.sharenote.redistribution.service.lock;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 분산락 제공자
+ * DistributedLockService가 Redis 상태에 따라 구현체를 골라 위임한다.
+ * 작업(task) 자체에서 발생한 예외는 감싸지 않고 그대로 전달해야 한다.
+ */
+public interface LockProvider {
+
+    /**
+     * 제공자 이름 (로그/메트릭 구분용)
+     */
+    String getName();
+
+    /**
+     * 단일 락 획득 후 작업 실행
+     * @param waitTime  락 대기시간 (초)
+     * @param leaseTime 락 유지시간 (초)
+     */
+    <T> T executeWithLock(String lockKey, long waitTime, long leaseTime, Supplier<T> task);
+
+    /**
+     * 여러 락을 모두 획득한 뒤 작업 실행
+     */
+    <T> T executeWithMultiLock(Collection<String> lockKeys, long waitTime, long leaseTime, Supplier<T> task);
+
+    /**
+     * 여러 락을 일괄 획득한 뒤 획득한 키 집합으로 작업 실행
+     * @param requireAll true면 전부 획득할 때까지 재시도하고, false면 획득한 키만으로 작업을 실행
+     */
+    <T> T executeWithBatchLock(Collection<String> lockKeys, long waitTime, long leaseTime,
+                               boolean requireAll, Function<Set<String>, T> task);
+}
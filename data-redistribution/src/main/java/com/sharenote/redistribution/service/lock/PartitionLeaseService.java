@@ -0,0 +1,341 @@
+package com.sharenote.redistribution.service.lock;
+
+import com.sharenote.redistribution.exception.custom.RedisConnectionException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.properties.RedissonProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 마이그레이션 파티션 임대 서비스
+ * <p>
+ * Legacy 페이지 키 공간을 페이지 ID 해시로 N개의 파티션으로 나누고,
+ * 각 파티션을 Redis 키(값 = 인스턴스 ID, TTL = 임대 시간)로 임대하여 여러 인스턴스가 서로 겹치지 않게 작업한다.
+ * 1. 임대: SET NX PX 로 비어있는(또는 만료된) 파티션을 획득하고 직전 소유자 기록을 자신으로 교체 (Lua)
+ * 2. 갱신: 마이그레이션과 분리된 전용 스레드의 하트비트마다 값이 자신의 인스턴스 ID일 때만 TTL 연장 (Lua)
+ * 3. 반납: 값이 자신의 인스턴스 ID일 때만 임대와 소유자 기록 삭제 (Lua)
+ * 인스턴스당 보유 수는 살아있는 인스턴스 수로 나눈 균등 몫이며, 새 인스턴스가 들어오면 배치 사이에 초과분을 반납한다.
+ * 갱신하지 못한 채 임대 시간이 지난 파티션은 Redis 키가 만료되기 전에 스스로 보유를 중단한다.
+ * 인스턴스가 죽으면 TTL 만료 후 다른 인스턴스가 해당 파티션을 가져가고, 처리 중이던 페이지는 유예 시간 뒤 재설정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionLeaseService {
+    private final RedissonClient redissonClient;
+    private final RedissonProperties redissonProperties;
+    private final MigrationProperties migrationProperties;
+
+    private static final String PARTITION_KEY = "migration:partition:";
+    private static final String OWNER_KEY_SUFFIX = ":owner";
+    private static final String INSTANCES_KEY = "migration:instances";
+
+    /**
+     * 임대 획득 - 실패 시 nil, 성공 시 직전 소유자 (정상 반납되었거나 처음이면 빈 문자열)
+     */
+    private static final String CLAIM_SCRIPT =
+            "if not redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "    return false " +
+            "end " +
+            "local previous = redis.call('get', KEYS[2]) " +
+            "redis.call('set', KEYS[2], ARGV[1]) " +
+            "if previous then " +
+            "    return previous " +
+            "end " +
+            "return ''";
+
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "    return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0";
+
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[2]) == ARGV[1] then " +
+            "    redis.call('del', KEYS[2]) " +
+            "end " +
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "    return redis.call('del', KEYS[1]) " +
+            "end " +
+            "return 0";
+
+    /**
+     * 인스턴스 등록 갱신 - 만료된 인스턴스를 정리하고 살아있는 인스턴스 수 반환
+     */
+    private static final String REGISTER_SCRIPT =
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', ARGV[1]) " +
+            "redis.call('zadd', KEYS[1], ARGV[2], ARGV[3]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[4]) " +
+            "return redis.call('zcard', KEYS[1])";
+
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 보유 중인 파티션 → 로컬 임대 만료 시각 (System.nanoTime 기준, 요청 전 시각으로 계산하여 Redis보다 먼저 만료)
+     */
+    private final Map<Integer, Long> leaseDeadlines = new ConcurrentHashMap<>();
+
+    /**
+     * MIGRATING 재설정을 기다리는 파티션 → 재설정 가능 시각 (System.nanoTime 기준)
+     */
+    private final Map<Integer, Long> pendingResets = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    /**
+     * 하트비트 전용 스레드 시작
+     * 스케줄러 스레드를 마이그레이션 실행과 나눠 쓰면 실행 중 갱신이 밀려 임대가 만료되므로 따로 둔다.
+     */
+    @PostConstruct
+    public void startHeartbeat() {
+        long heartbeatInterval = migrationProperties.getPartition().getHeartbeatInterval();
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (Exception e) {
+                log.error("파티션 임대 하트비트 중 오류 발생", e);
+            }
+        }, 0, heartbeatInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 균등 몫까지 비어있거나 만료된 파티션 임대 시도, 균등 몫을 넘는 파티션은 반납
+     * 처리 중인 페이지가 없는 배치 사이에서만 호출한다.
+     * 시작 위치를 무작위로 두어 여러 인스턴스가 동시에 시작해도 앞쪽 파티션에 경합이 몰리지 않게 한다.
+     * @return 이번 호출에서 새로 임대한 파티션
+     */
+    public Set<Integer> claimPartitions() {
+        MigrationProperties.PartitionConfig config = migrationProperties.getPartition();
+        int partitionCount = config.getCount();
+        long leaseTtlNanos = TimeUnit.MILLISECONDS.toNanos(config.getLeaseTtl());
+        int offset = ThreadLocalRandom.current().nextInt(partitionCount);
+
+        Set<Integer> claimed = new TreeSet<>();
+        try {
+            int maxPartitions = resolveMaxPartitions(partitionCount, registerInstance());
+            releaseExcess(maxPartitions);
+
+            for (int i = 0; i < partitionCount && leaseDeadlines.size() < maxPartitions; i++) {
+                int partition = (offset + i) % partitionCount;
+                if (leaseDeadlines.containsKey(partition)) {
+                    continue;
+                }
+
+                long requestedAt = System.nanoTime();
+                String previousOwner = evalPartitionKeys(CLAIM_SCRIPT, RScript.ReturnType.VALUE, partition,
+                        instanceId, String.valueOf(config.getLeaseTtl()));
+                if (previousOwner == null) {
+                    continue;
+                }
+
+                leaseDeadlines.put(partition, requestedAt + leaseTtlNanos);
+                claimed.add(partition);
+                if (previousOwner.isEmpty()) {
+                    pendingResets.put(partition, requestedAt);
+                } else {
+                    // 반납 없이 만료된 임대 - 직전 소유자가 처리 중이던 페이지가 끝날 때까지 재설정을 미룬다.
+                    pendingResets.put(partition, requestedAt + leaseTtlNanos);
+                    log.warn("파티션 {} 임대를 만료된 소유자 {}에게서 가져왔습니다. MIGRATING 페이지는 {}ms 뒤 재설정합니다.",
+                            partition, previousOwner, config.getLeaseTtl());
+                }
+            }
+        } catch (Exception e) {
+            // 락 대체가 켜져 있으면 Redis 장애 동안 이미 임대한 파티션으로 계속 진행한다.
+            if (redissonProperties.getLock().isFallbackEnabled() && !leaseDeadlines.isEmpty()) {
+                log.warn("파티션 임대 중 Redis 오류 발생 - 보유 중인 파티션 {}으로 계속 진행합니다. ({})",
+                        getOwnedPartitions(), e.getMessage());
+                return claimed;
+            }
+            log.error("파티션 임대 중 Redis 오류 발생", e);
+            throw new RedisConnectionException("파티션 임대 중 Redis 통신 오류가 발생했습니다", e);
+        }
+
+        if (!claimed.isEmpty()) {
+            log.info("파티션 임대 획득 - 인스턴스: {}, 신규: {}, 전체 보유: {}", instanceId, claimed, getOwnedPartitions());
+        }
+        return claimed;
+    }
+
+    /**
+     * MIGRATING 페이지를 READY로 재설정해도 되는 보유 파티션 (반환한 파티션은 대기 목록에서 제거)
+     * 직전 소유자가 정상 반납했으면 바로, 임대 만료로 넘어왔으면 유예 시간(임대 시간)이 지난 뒤 반환한다.
+     */
+    public Set<Integer> takeResettablePartitions() {
+        long now = System.nanoTime();
+        Set<Integer> owned = getOwnedPartitions();
+        Set<Integer> resettable = new TreeSet<>();
+        pendingResets.forEach((partition, resettableAt) -> {
+            if (owned.contains(partition) && now - resettableAt >= 0 && pendingResets.remove(partition, resettableAt)) {
+                resettable.add(partition);
+            }
+        });
+        return resettable;
+    }
+
+    /**
+     * 보유 중인 파티션 임대 갱신 (하트비트)
+     * 갱신에 실패한 파티션은 다른 인스턴스에 넘어간 것으로 보고 보유 목록에서 제거한다.
+     * Redis 오류로 임대 시간 동안 갱신하지 못한 파티션도 다른 인스턴스가 가져갈 수 있으므로 보유를 중단한다.
+     */
+    void heartbeat() {
+        try {
+            registerInstance();
+        } catch (Exception e) {
+            log.warn("인스턴스 등록 갱신 실패 ({})", e.getMessage());
+        }
+
+        long leaseTtl = migrationProperties.getPartition().getLeaseTtl();
+        for (Map.Entry<Integer, Long> lease : leaseDeadlines.entrySet()) {
+            int partition = lease.getKey();
+            long requestedAt = System.nanoTime();
+            try {
+                Long renewed = evalPartitionKeys(RENEW_SCRIPT, RScript.ReturnType.INTEGER, partition,
+                        instanceId, String.valueOf(leaseTtl));
+                if (renewed == null || renewed == 0L) {
+                    drop(partition);
+                    log.warn("파티션 {} 임대를 잃었습니다. (만료 후 다른 인스턴스가 획득)", partition);
+                } else {
+                    leaseDeadlines.replace(partition, requestedAt + TimeUnit.MILLISECONDS.toNanos(leaseTtl));
+                }
+            } catch (Exception e) {
+                if (!isLeaseValid(lease.getValue())) {
+                    drop(partition);
+                    log.error("파티션 {} 임대를 임대 시간 동안 갱신하지 못해 보유를 중단합니다.", partition, e);
+                } else {
+                    // 일시적인 Redis 오류는 다음 하트비트에서 재시도, 임대 시간 안에서는 임대 유지
+                    log.error("파티션 {} 임대 갱신 실패", partition, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 보유 중인 모든 파티션 임대 반납 (처리 중인 페이지가 없을 때 호출)
+     */
+    public void releaseAll() {
+        Set<Integer> released = new TreeSet<>(leaseDeadlines.keySet());
+        released.forEach(this::release);
+        if (!released.isEmpty()) {
+            log.info("파티션 임대 반납 - 인스턴스: {}, 파티션: {}", instanceId, released);
+        }
+    }
+
+    /**
+     * 하트비트 중단, 임대 반납, 인스턴스 등록 해제
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        releaseAll();
+        try {
+            redissonClient.getScoredSortedSet(buildKey(INSTANCES_KEY), StringCodec.INSTANCE).remove(instanceId);
+        } catch (Exception e) {
+            log.warn("인스턴스 등록 해제 실패 (만료 후 자동 정리됨) ({})", e.getMessage());
+        }
+    }
+
+    /**
+     * 임대가 유효한 보유 파티션
+     */
+    public Set<Integer> getOwnedPartitions() {
+        Set<Integer> owned = new TreeSet<>();
+        leaseDeadlines.forEach((partition, deadline) -> {
+            if (isLeaseValid(deadline)) {
+                owned.add(partition);
+            }
+        });
+        return Collections.unmodifiableSet(owned);
+    }
+
+    public int getPartitionCount() {
+        return migrationProperties.getPartition().getCount();
+    }
+
+    /**
+     * 인스턴스당 보유 상한 - 살아있는 인스턴스 수 기준 균등 몫 (max-per-instance가 있으면 그 값과 작은 쪽)
+     */
+    private int resolveMaxPartitions(int partitionCount, long liveInstances) {
+        int fairShare = (int) Math.ceil((double) partitionCount / Math.max(1, liveInstances));
+        int maxPerInstance = migrationProperties.getPartition().getMaxPerInstance();
+        return maxPerInstance > 0 ? Math.min(maxPerInstance, fairShare) : fairShare;
+    }
+
+    private void releaseExcess(int maxPartitions) {
+        int excess = leaseDeadlines.size() - maxPartitions;
+        if (excess <= 0) {
+            return;
+        }
+
+        List<Integer> partitions = new ArrayList<>(new TreeSet<>(leaseDeadlines.keySet()).descendingSet());
+        Set<Integer> released = new TreeSet<>(partitions.subList(0, excess));
+        released.forEach(this::release);
+        log.info("균등 몫({}개)을 넘는 파티션 반납 - 인스턴스: {}, 파티션: {}", maxPartitions, instanceId, released);
+    }
+
+    private void release(int partition) {
+        drop(partition);
+        try {
+            evalPartitionKeys(RELEASE_SCRIPT, RScript.ReturnType.INTEGER, partition, instanceId);
+        } catch (Exception e) {
+            log.error("파티션 {} 임대 반납 실패 (TTL 만료로 자동 해제됨)", partition, e);
+        }
+    }
+
+    private void drop(int partition) {
+        leaseDeadlines.remove(partition);
+        pendingResets.remove(partition);
+    }
+
+    private boolean isLeaseValid(long deadline) {
+        // 락 대체가 켜져 있으면 Redis 장애 동안 갱신하지 못해도 보유 중인 파티션으로 계속 진행한다.
+        return System.nanoTime() - deadline < 0 || redissonProperties.getLock().isFallbackEnabled();
+    }
+
+    private long registerInstance() {
+        long now = System.currentTimeMillis();
+        long leaseTtl = migrationProperties.getPartition().getLeaseTtl();
+        Long liveInstances = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                REGISTER_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(buildKey(INSTANCES_KEY)),
+                String.valueOf(now), String.valueOf(now + leaseTtl), instanceId, String.valueOf(leaseTtl * 2));
+        return liveInstances != null ? liveInstances : 1;
+    }
+
+    private <T> T evalPartitionKeys(String script, RScript.ReturnType returnType, int partition, Object... args) {
+        String leaseKey = buildKey(PARTITION_KEY + partition);
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                script,
+                returnType,
+                List.of(leaseKey, leaseKey + OWNER_KEY_SUFFIX),
+                args);
+    }
+
+    private String buildKey(String key) {
+        return redissonProperties.getLock().buildLockKey(key);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sharenote.redistribution.service.lock;
+
+/**
+ * Redis 상태 변경 리스너
+ * 빈으로 등록하거나 RedisHealthMonitor.addListener로 등록하면 상태가 바뀔 때 모니터 스레드에서 호출된다.
+ */
+@FunctionalInterface
+public interface RedisHealthListener {
+    void onStateChange(RedisHealthMonitor.State previous, RedisHealthMonitor.State current);
+}
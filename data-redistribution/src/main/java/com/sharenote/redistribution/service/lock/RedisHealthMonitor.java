@@ -0,0 +1,130 @@
+package com.sharenote.redistribution.service.lock;
+
+import com.sharenote.redistribution.properties.RedissonProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisNodes;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 백그라운드 Redis 상태 감시
+ * <p>
+ * 주기적으로 PING을 보내고 결과로 상태를 전이한다.
+ * 1. UP → DOWN: 연속 실패가 failureThreshold에 도달 (락 경로에서 보고된 Redis 오류도 실패로 센다)
+ * 2. DOWN → UP: 연속 성공이 recoveryThreshold에 도달
+ * 3. 마지막 성공 PING이 maxStaleness보다 오래되면 (감시 스레드 지연 등) 사용 불가로 본다.
+ * 락 경로는 isAvailable()로 메모리 값만 확인하므로 페이지마다 Redis 왕복이 추가되지 않는다.
+ */
+@Slf4j
+@Component
+public class RedisHealthMonitor {
+    private final RedissonClient redissonClient;
+    private final RedissonProperties redissonProperties;
+    private final ObjectProvider<RedisHealthListener> listenerBeans;
+    private final List<RedisHealthListener> listeners = new CopyOnWriteArrayList<>();
+
+    public enum State { UP, DOWN }
+
+    private volatile State state = State.UP;
+    private volatile long lastSuccessAt = System.currentTimeMillis();
+    private int consecutiveFailures = 0;
+    private int consecutiveSuccesses = 0;
+
+    public RedisHealthMonitor(RedissonClient redissonClient,
+                              RedissonProperties redissonProperties,
+                              ObjectProvider<RedisHealthListener> listenerBeans) {
+        this.redissonClient = redissonClient;
+        this.redissonProperties = redissonProperties;
+        this.listenerBeans = listenerBeans;
+    }
+
+    public void addListener(RedisHealthListener listener) {
+        listeners.add(listener);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 락 경로용 빠른 확인 (Redis 호출 없음)
+     */
+    public boolean isAvailable() {
+        if (redissonClient.isShutdown() || state == State.DOWN) {
+            return false;
+        }
+        return System.currentTimeMillis() - lastSuccessAt <= redissonProperties.getHealth().getMaxStaleness();
+    }
+
+    @Scheduled(fixedDelayString = "${redisson.health.ping-interval:1000}")
+    public void ping() {
+        if (redissonClient.isShutdown()) {
+            return;
+        }
+
+        boolean healthy;
+        try {
+            healthy = redissonClient.getRedisNodes(RedisNodes.SINGLE)
+                    .pingAll(redissonProperties.getHealth().getPingTimeout(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.debug("Redis PING 실패 ({})", e.getMessage());
+            healthy = false;
+        }
+
+        if (healthy) {
+            recordSuccess();
+        } else {
+            recordFailure();
+        }
+    }
+
+    /**
+     * 락 경로에서 Redis 통신 오류가 발생했을 때 보고 (다음 PING을 기다리지 않고 실패로 센다)
+     */
+    public void reportFailure(Throwable cause) {
+        log.debug("Redis 통신 오류 보고 ({})", cause.getMessage());
+        recordFailure();
+    }
+
+    private synchronized void recordSuccess() {
+        lastSuccessAt = System.currentTimeMillis();
+        consecutiveFailures = 0;
+        consecutiveSuccesses++;
+        if (state == State.DOWN && consecutiveSuccesses >= redissonProperties.getHealth().getRecoveryThreshold()) {
+            transition(State.UP);
+        }
+    }
+
+    private synchronized void recordFailure() {
+        consecutiveSuccesses = 0;
+        consecutiveFailures++;
+        if (state == State.UP && consecutiveFailures >= redissonProperties.getHealth().getFailureThreshold()) {
+            transition(State.DOWN);
+        }
+    }
+
+    private void transition(State next) {
+        State previous = state;
+        state = next;
+        if (next == State.DOWN) {
+            log.error("Redis 상태 변경: {} → {} (연속 실패 {}회)", previous, next, consecutiveFailures);
+        } else {
+            log.info("Redis 상태 변경: {} → {} (연속 성공 {}회)", previous, next, consecutiveSuccesses);
+        }
+
+        Stream.concat(listenerBeans.orderedStream(), listeners.stream()).forEach(listener -> {
+            try {
+                listener.onStateChange(previous, next);
+            } catch (Exception e) {
+                log.error("Redis 상태 리스너 처리 중 오류 발생 (무시함)", e);
+            }
+        });
+    }
+}
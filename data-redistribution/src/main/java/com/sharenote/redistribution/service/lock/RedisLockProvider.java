@@ -0,0 +1,377 @@
+package com.sharenote.redistribution.service.lock;
+
+import com.sharenote.redistribution.exception.custom.DistributedLockException;
+import com.sharenote.redistribution.exception.custom.LockAcquisitionException;
+import com.sharenote.redistribution.exception.custom.RedisConnectionException;
+import com.sharenote.redistribution.properties.RedissonProperties;
+import com.sharenote.redistribution.service.migration.MigrationMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Redisson 기반 락 제공자 (기본)
+ * <p>
+ * 단일 락은 RLock, 일괄 락은 RLock과 같은 해시 형식의 Lua 스크립트로 잡으므로 두 경로가 서로 배타적이다.
+ * 락 획득 중 Redis 통신 오류는 RedisConnectionException으로 던지고 상태 감시기에 실패로 보고한다.
+ * 락을 잡은 뒤 작업(task)에서 발생한 예외는 분류하지 않고 그대로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockProvider implements LockProvider {
+    private final RedissonClient redissonClient;
+    private final RedissonProperties redissonProperties;
+    private final MigrationMetrics migrationMetrics;
+    private final RedisHealthMonitor redisHealthMonitor;
+
+    // 일괄 락 갱신 전용 스레드 (Redisson watchdog 대신 묶음 전체를 한 번에 갱신)
+    private final ScheduledExecutorService batchLockRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "batch-lock-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /*
+     * 일괄 락 Lua 스크립트 - Redisson RLock과 같은 해시 형식(필드 = "클라이언트ID:스레드ID", 값 = 재진입 횟수)을 사용하므로
+     * 같은 키를 RLock으로 잡으려는 단일/MultiLock 경로와 서로 배타적이다.
+     * ARGV[1] = 유지시간(ms), ARGV[2] = 락 필드, ARGV[3] = 전부 획득해야 하는지('1'/'0')
+     */
+    private static final String BATCH_ACQUIRE_SCRIPT =
+            "local acquired = {} " +
+            "for _, key in ipairs(KEYS) do " +
+            "    if (redis.call('exists', key) == 0) or (redis.call('hexists', key, ARGV[2]) == 1) then " +
+            "        redis.call('hincrby', key, ARGV[2], 1) " +
+            "        redis.call('pexpire', key, ARGV[1]) " +
+            "        table.insert(acquired, key) " +
+            "    elseif ARGV[3] == '1' then " +
+            "        for _, taken in ipairs(acquired) do " +
+            "            if redis.call('hincrby', taken, ARGV[2], -1) <= 0 then " +
+            "                redis.call('del', taken) " +
+            "            end " +
+            "        end " +
+            "        return {} " +
+            "    end " +
+            "end " +
+            "return acquired";
+
+    private static final String BATCH_RENEW_SCRIPT =
+            "local renewed = 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "    if redis.call('hexists', key, ARGV[2]) == 1 then " +
+            "        redis.call('pexpire', key, ARGV[1]) " +
+            "        renewed = renewed + 1 " +
+            "    end " +
+            "end " +
+            "return renewed";
+
+    // 해제 시 RLock 대기자가 깨어나도록 Redisson과 같은 채널로 해제 메시지(0)를 보낸다.
+    private static final String BATCH_RELEASE_SCRIPT =
+            "local released = 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "    if redis.call('hexists', key, ARGV[1]) == 1 then " +
+            "        if redis.call('hincrby', key, ARGV[1], -1) > 0 then " +
+            "            redis.call('pexpire', key, ARGV[2]) " +
+            "        else " +
+            "            redis.call('del', key) " +
+            "            redis.call('publish', 'redisson_lock__channel:{' .. key .. '}', 0) " +
+            "        end " +
+            "        released = released + 1 " +
+            "    end " +
+            "end " +
+            "return released";
+
+    private static final long BATCH_LOCK_RETRY_INTERVAL_MILLIS = 100;
+
+    @Override
+    public String getName() {
+        return "redis";
+    }
+
+    /**
+     * 분산락을 획득하고 작업을 실행하는 메서드
+     * @param lockKey   락 키
+     * @param waitTime  락 대기시간 (초)
+     * @param leaseTime 락 유지시간 (초)
+     * @param task      실행할 작업
+     * @return 작업 결과
+     * @throws RedisConnectionException Redis 연결 실패 시
+     * @throws LockAcquisitionException 락 획득 실패 시
+     */
+    @Override
+    public <T> T executeWithLock(String lockKey, long waitTime, long leaseTime, Supplier<T> task) {
+        // 1. Redis 연결 상태 확인
+        validateRedisConnection();
+
+        String fullLockKey = redissonProperties.getLock().buildLockKey(lockKey);
+        RLock lock = redissonClient.getLock(fullLockKey);
+
+        boolean acquired;
+        try {
+            log.debug("분산락 획득 시도: {} (대기: {}초, 유지: {}초)", fullLockKey, waitTime, leaseTime);
+
+            long waitStartedAt = System.nanoTime();
+            acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
+            migrationMetrics.recordLockWait("single", acquired, System.nanoTime() - waitStartedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("락 획득 중 인터럽트 발생: {}", fullLockKey, e);
+            throw new LockAcquisitionException("락 획득 중 인터럽트가 발생했습니다: " + fullLockKey, e);
+
+        } catch (RuntimeException e) {
+            throw translateLockFailure(fullLockKey, e);
+        }
+
+        if (!acquired) {
+            log.error("락 획득 실패 (타임아웃): {} - 다른 프로세스에서 이미 사용 중일 수 있습니다", fullLockKey);
+            throw new LockAcquisitionException("락 획득에 실패했습니다: " + fullLockKey);
+        }
+        log.debug("분산락 획득 성공: {}", fullLockKey);
+
+        try {
+            // 2. 락 획득 후 다시 한번 연결 상태 확인
+            validateRedisConnection();
+
+            // 작업 자체의 예외는 Redis 오류로 분류하지 않고 그대로 전달
+            return task.get();
+
+        } finally {
+            // 3. 락 해제
+            releaseLockSafely(lock, fullLockKey);
+        }
+    }
+
+    /**
+     * 여러 락 키를 한 번에 획득(MultiLock)하고 작업을 실행하는 메서드
+     * 모든 락을 획득해야 작업을 실행하며, 하나라도 실패하면 획득한 락을 모두 풀고 예외를 던진다.
+     * 락 키는 단일 락과 같으므로 페이지 단위 마이그레이션과 서로 배타적이다.
+     * @param lockKeys  락 키 목록
+     * @param waitTime  락 대기시간 (초)
+     * @param leaseTime 락 유지시간 (초)
+     * @param task      실행할 작업
+     * @return 작업 결과
+     * @throws RedisConnectionException Redis 연결 실패 시
+     * @throws LockAcquisitionException 락 획득 실패 시
+     */
+    @Override
+    public <T> T executeWithMultiLock(Collection<String> lockKeys, long waitTime, long leaseTime, Supplier<T> task) {
+        validateRedisConnection();
+
+        RLock[] locks = lockKeys.stream()
+                .map(lockKey -> redissonClient.getLock(redissonProperties.getLock().buildLockKey(lockKey)))
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+        String description = "MultiLock(" + locks.length + "개)";
+
+        boolean acquired;
+        try {
+            log.debug("분산락 일괄 획득 시도: {} (대기: {}초, 유지: {}초)", description, waitTime, leaseTime);
+
+            long waitStartedAt = System.nanoTime();
+            acquired = multiLock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
+            migrationMetrics.recordLockWait("multi", acquired, System.nanoTime() - waitStartedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("락 일괄 획득 중 인터럽트 발생: {}", description, e);
+            throw new LockAcquisitionException("락 일괄 획득 중 인터럽트가 발생했습니다: " + description, e);
+
+        } catch (RuntimeException e) {
+            throw translateLockFailure(description, e);
+        }
+
+        if (!acquired) {
+            log.error("락 일괄 획득 실패 (타임아웃): {} - 일부 키를 다른 프로세스에서 사용 중일 수 있습니다", description);
+            throw new LockAcquisitionException("락 일괄 획득에 실패했습니다: " + description);
+        }
+
+        try {
+            validateRedisConnection();
+
+            return task.get();
+
+        } finally {
+            try {
+                multiLock.unlock();
+                log.debug("분산락 일괄 해제 완료: {}", description);
+            } catch (Exception e) {
+                log.error("분산락 일괄 해제 중 오류 발생 (무시함): {}", description, e);
+            }
+        }
+    }
+
+    /**
+     * 여러 락 키를 Lua 스크립트 한 번으로 획득하고 작업을 실행하는 메서드 (키 수와 관계없이 시도당 왕복 1회)
+     * 유지시간의 1/3마다 묶음 전체를 한 번에 갱신하고, 작업이 끝나면 한 번에 해제한다.
+     * @param lockKeys   락 키 목록
+     * @param waitTime   락 대기시간 (초) - requireAll이 아니면 한 번만 시도
+     * @param leaseTime  락 유지시간 (초)
+     * @param requireAll true면 전부 획득할 때까지 재시도하고, false면 획득한 키만으로 작업을 실행
+     * @param task       획득한 락 키 집합을 받아 실행할 작업
+     * @return 작업 결과
+     * @throws RedisConnectionException Redis 연결 실패 시
+     * @throws LockAcquisitionException 하나도 획득하지 못했거나 requireAll인데 대기시간 안에 전부 획득하지 못한 경우
+     */
+    @Override
+    public <T> T executeWithBatchLock(Collection<String> lockKeys, long waitTime, long leaseTime,
+                                      boolean requireAll, Function<Set<String>, T> task) {
+        validateRedisConnection();
+
+        Map<String, String> keysByFullKey = new LinkedHashMap<>();
+        lockKeys.forEach(lockKey -> keysByFullKey.put(redissonProperties.getLock().buildLockKey(lockKey), lockKey));
+        List<Object> fullKeys = new ArrayList<>(keysByFullKey.keySet());
+        String lockField = redissonClient.getId() + ":" + Thread.currentThread().getId();
+        long leaseMillis = TimeUnit.SECONDS.toMillis(leaseTime);
+        String description = "BatchLock(" + fullKeys.size() + "개)";
+
+        List<Object> acquiredKeys = List.of();
+        try {
+            long waitStartedAt = System.nanoTime();
+            long deadline = waitStartedAt + TimeUnit.SECONDS.toNanos(waitTime);
+            while (true) {
+                acquiredKeys = evalBatchScript(BATCH_ACQUIRE_SCRIPT, RScript.ReturnType.MULTI, fullKeys,
+                        String.valueOf(leaseMillis), lockField, requireAll ? "1" : "0");
+                if (!acquiredKeys.isEmpty() || !requireAll || System.nanoTime() >= deadline) {
+                    break;
+                }
+                Thread.sleep(BATCH_LOCK_RETRY_INTERVAL_MILLIS);
+            }
+            migrationMetrics.recordLockWait("batch", !acquiredKeys.isEmpty(), System.nanoTime() - waitStartedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("락 일괄 획득 중 인터럽트 발생: {}", description, e);
+            throw new LockAcquisitionException("락 일괄 획득 중 인터럽트가 발생했습니다: " + description, e);
+
+        } catch (RuntimeException e) {
+            throw translateLockFailure(description, e);
+        }
+
+        if (acquiredKeys.isEmpty()) {
+            log.error("락 일괄 획득 실패: {} - 다른 프로세스에서 사용 중일 수 있습니다", description);
+            throw new LockAcquisitionException("락 일괄 획득에 실패했습니다: " + description);
+        }
+        log.debug("분산락 일괄 획득: {} 중 {}개", description, acquiredKeys.size());
+
+        List<Object> heldKeys = acquiredKeys;
+        long renewInterval = Math.max(1, leaseMillis / 3);
+        ScheduledFuture<?> renewal = batchLockRenewer.scheduleAtFixedRate(
+                () -> renewBatchLock(heldKeys, leaseMillis, lockField, description),
+                renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+
+        try {
+            Set<String> acquired = new LinkedHashSet<>();
+            heldKeys.forEach(fullKey -> acquired.add(keysByFullKey.get(String.valueOf(fullKey))));
+            return task.apply(acquired);
+
+        } finally {
+            renewal.cancel(false);
+            try {
+                evalBatchScript(BATCH_RELEASE_SCRIPT, RScript.ReturnType.INTEGER, heldKeys,
+                        lockField, String.valueOf(leaseMillis));
+                log.debug("분산락 일괄 해제 완료: {}", description);
+            } catch (Exception e) {
+                log.error("분산락 일괄 해제 중 오류 발생 (무시함, 유지시간 후 만료): {}", description, e);
+            }
+        }
+    }
+
+    private void renewBatchLock(List<Object> keys, long leaseMillis, String lockField, String description) {
+        try {
+            Long renewed = evalBatchScript(BATCH_RENEW_SCRIPT, RScript.ReturnType.INTEGER, keys,
+                    String.valueOf(leaseMillis), lockField);
+            if (renewed == null || renewed < keys.size()) {
+                log.warn("분산락 일괄 갱신 중 일부 키를 잃었습니다: {} (갱신 {}개)", description, renewed);
+            }
+        } catch (Exception e) {
+            log.error("분산락 일괄 갱신 실패: {}", description, e);
+        }
+    }
+
+    private <R> R evalBatchScript(String script, RScript.ReturnType returnType, List<Object> keys, Object... args) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, script, returnType, keys, args);
+    }
+
+    @PreDestroy
+    public void shutdownBatchLockRenewer() {
+        batchLockRenewer.shutdownNow();
+    }
+
+    /**
+     * Redis 연결 상태를 검증하는 메서드 (백그라운드 감시 결과만 확인, Redis 호출 없음)
+     * @throws RedisConnectionException Redis 연결 실패 시
+     */
+    private void validateRedisConnection() {
+        if (redissonClient.isShutdown()) {
+            log.error("RedissonClient가 종료된 상태입니다");
+            throw new RedisConnectionException("RedissonClient가 종료되었습니다");
+        }
+
+        if (!redisHealthMonitor.isAvailable()) {
+            log.error("Redis 상태 감시 결과 사용 불가: {}", redisHealthMonitor.getState());
+            throw new RedisConnectionException("Redis와의 연결이 끊어졌습니다");
+        }
+    }
+
+    /**
+     * 안전한 락 해제 메서드
+     */
+    private void releaseLockSafely(RLock lock, String fullLockKey) {
+        try {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+                log.debug("분산락 해제 완료: {}", fullLockKey);
+            } else {
+                log.warn("현재 스레드가 보유하지 않은 락 해제 시도: {}", fullLockKey);
+            }
+        } catch (Exception e) {
+            log.error("분산락 해제 중 오류 발생 (무시함): {}", fullLockKey, e);
+            // 락 해제 실패는 로그만 남기고 예외를 던지지 않음
+            // Watchdog이 자동으로 만료시킬 것임
+        }
+    }
+
+    /**
+     * 락 획득 중 발생한 예외 변환 (작업 예외에는 사용하지 않는다)
+     * Redis 통신 오류만 상태 감시기에 보고하고 RedisConnectionException으로 던진다.
+     */
+    private RuntimeException translateLockFailure(String description, RuntimeException e) {
+        if (e instanceof LockAcquisitionException || e instanceof RedisConnectionException) {
+            return e;
+        }
+
+        log.error("분산락 획득 중 예상치 못한 오류 발생: {}", description, e);
+        if (isRedisRelatedError(e)) {
+            redisHealthMonitor.reportFailure(e);
+            return new RedisConnectionException("Redis 통신 중 오류 발생: " + description, e);
+        }
+        return new DistributedLockException("분산락 획득 중 오류가 발생했습니다: " + description, e);
+    }
+
+    /**
+     * Redis 관련 오류인지 확인하는 메서드 (Redisson/Netty 예외 타입으로만 판단)
+     */
+    private boolean isRedisRelatedError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RedisException || cause.getClass().getName().startsWith("io.netty.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,188 @@
+package com.sharenote.redistribution.service.migration;
+
+import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.service.shard.ShardRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 운영 부하 신호에 따라 마이그레이션 속도를 조절하는 컨트롤러 (AIMD)
+ * <p>
+ * 배치마다 다음 신호를 측정하여 배치 크기, 워커 수, 배치 간 대기 시간을 조정한다.
+ * 1. 페이지당 처리 시간 (Legacy/샤드 쿼리 지연의 합, EWMA)
+ * 2. 분산락 충돌 비율 (EWMA)
+ * 3. Hikari 커넥션 대기 스레드 수 (모든 데이터소스 중 최댓값)
+ * 과부하면 배치 크기/워커 수를 절반으로 줄이고 대기 시간을 두 배로 늘리며,
+ * 정상이면 조금씩 늘리고 대기 시간을 줄인다.
+ * 한가한 시간대(off-peak)에는 설정된 최대치까지, 그 외에는 peakCapacityRatio 비율까지만 늘린다.
+ */
+@Slf4j
+@Component
+public class AdaptiveThrottleController {
+    private final MigrationProperties migrationProperties;
+    private final ThreadPoolTaskExecutor migrationExecutor;
+    private final List<HikariDataSource> monitoredDataSources;
+
+    @Getter
+    private volatile int batchSize;
+    @Getter
+    private volatile int workerCount;
+    @Getter
+    private volatile long delayMillis;
+
+    private double pageLatencyEwma = -1;
+    private double lockConflictRateEwma = 0;
+
+    public AdaptiveThrottleController(MigrationProperties migrationProperties,
+                                      @Qualifier("migrationExecutor") ThreadPoolTaskExecutor migrationExecutor,
+                                      ShardRegistry shardRegistry) {
+        this.migrationProperties = migrationProperties;
+        this.migrationExecutor = migrationExecutor;
+        this.monitoredDataSources = shardRegistry.getDataSources().stream()
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .toList();
+    }
+
+    @PostConstruct
+    public void init() {
+        this.batchSize = Math.max(1, migrationProperties.getBatchSize());
+        this.workerCount = Math.max(1, migrationProperties.getWorkerCount());
+        this.delayMillis = Math.max(0, migrationProperties.getDelayBetweenBatches());
+    }
+
+    /**
+     * 배치 처리 결과를 반영하여 다음 배치의 속도를 조정
+     * @param pageCount     배치의 페이지 수
+     * @param elapsed       배치 처리 시간
+     * @param lockConflicts 분산락 획득 실패 수
+     */
+    public synchronized void recordBatch(int pageCount, Duration elapsed, int lockConflicts) {
+        MigrationProperties.ThrottleConfig config = migrationProperties.getThrottle();
+        if (!config.isEnabled() || pageCount <= 0) {
+            return;
+        }
+
+        // 워커들이 동시에 처리하므로 배치 시간 × 워커 수 / 페이지 수 ≈ 페이지 하나의 처리 시간
+        double pageLatency = (double) elapsed.toMillis() * Math.min(workerCount, pageCount) / pageCount;
+        double conflictRate = (double) lockConflicts / pageCount;
+        double alpha = config.getSmoothing();
+
+        pageLatencyEwma = pageLatencyEwma < 0 ? pageLatency : alpha * pageLatency + (1 - alpha) * pageLatencyEwma;
+        lockConflictRateEwma = alpha * conflictRate + (1 - alpha) * lockConflictRateEwma;
+
+        adjust(config);
+    }
+
+    /**
+     * 현재 대기 시간만큼 다음 배치를 늦춤
+     */
+    public void pauseBeforeNextBatch() {
+        long delay = delayMillis;
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MigrationException("배치 간 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private void adjust(MigrationProperties.ThrottleConfig config) {
+        int poolWaiters = maxThreadsAwaitingConnection();
+        boolean offPeak = isOffPeak(LocalTime.now(), config);
+
+        boolean overloaded = pageLatencyEwma > config.getTargetPageLatency()
+                || lockConflictRateEwma > config.getMaxLockConflictRate()
+                || poolWaiters > config.getMaxPoolWaiters();
+
+        int maxBatchSize = capacity(migrationProperties.getBatchSize(), offPeak, config);
+        int maxWorkerCount = capacity(migrationProperties.getWorkerCount(), offPeak, config);
+        int minBatchSize = Math.min(config.getMinBatchSize(), maxBatchSize);
+        int minWorkerCount = Math.min(config.getMinWorkerCount(), maxWorkerCount);
+
+        int nextBatchSize;
+        int nextWorkerCount;
+        long nextDelay;
+        if (overloaded) {
+            // 곱셈 감소
+            nextBatchSize = Math.max(minBatchSize, batchSize / 2);
+            nextWorkerCount = Math.max(minWorkerCount, workerCount / 2);
+            nextDelay = Math.min(config.getMaxDelay(), Math.max(delayMillis * 2, config.getDelayStep()));
+        } else {
+            // 덧셈 증가
+            nextBatchSize = Math.min(maxBatchSize, batchSize + Math.max(1, maxBatchSize / 10));
+            nextWorkerCount = Math.min(maxWorkerCount, workerCount + 1);
+            nextDelay = Math.max(config.getMinDelay(), delayMillis - config.getDelayStep());
+        }
+        // 피크 시간대로 넘어가면 상한까지 즉시 낮춤
+        nextBatchSize = Math.min(nextBatchSize, maxBatchSize);
+        nextWorkerCount = Math.min(nextWorkerCount, maxWorkerCount);
+
+        if (nextBatchSize != batchSize || nextWorkerCount != workerCount || nextDelay != delayMillis) {
+            log.info("마이그레이션 속도 조정 - {} (페이지 지연: {}ms, 락 충돌률: {}, 커넥션 대기: {}, off-peak: {}) " +
+                            "배치: {} → {}, 워커: {} → {}, 대기: {}ms → {}ms",
+                    overloaded ? "감속" : "가속",
+                    Math.round(pageLatencyEwma), String.format("%.2f", lockConflictRateEwma), poolWaiters, offPeak,
+                    batchSize, nextBatchSize, workerCount, nextWorkerCount, delayMillis, nextDelay);
+        }
+
+        batchSize = nextBatchSize;
+        delayMillis = nextDelay;
+        applyWorkerCount(nextWorkerCount);
+    }
+
+    /**
+     * 워커 풀 크기 변경 (core ≤ max 조건을 지키도록 순서를 맞춘다)
+     */
+    private void applyWorkerCount(int nextWorkerCount) {
+        if (nextWorkerCount == workerCount) {
+            return;
+        }
+        if (nextWorkerCount > migrationExecutor.getMaxPoolSize()) {
+            migrationExecutor.setMaxPoolSize(nextWorkerCount);
+            migrationExecutor.setCorePoolSize(nextWorkerCount);
+        } else {
+            migrationExecutor.setCorePoolSize(nextWorkerCount);
+            migrationExecutor.setMaxPoolSize(nextWorkerCount);
+        }
+        workerCount = nextWorkerCount;
+    }
+
+    private int maxThreadsAwaitingConnection() {
+        int max = 0;
+        for (HikariDataSource dataSource : monitoredDataSources) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                max = Math.max(max, pool.getThreadsAwaitingConnection());
+            }
+        }
+        return max;
+    }
+
+    private static int capacity(int configured, boolean offPeak, MigrationProperties.ThrottleConfig config) {
+        int max = Math.max(1, configured);
+        return offPeak ? max : Math.max(1, (int) Math.floor(max * config.getPeakCapacityRatio()));
+    }
+
+    private static boolean isOffPeak(LocalTime now, MigrationProperties.ThrottleConfig config) {
+        int hour = now.getHour();
+        int start = config.getOffPeakStartHour();
+        int end = config.getOffPeakEndHour();
+        // 자정을 넘는 구간(예: 22시 ~ 6시)도 지원
+        return start <= end ? hour >= start && hour < end : hour >= start || hour < end;
+    }
+}
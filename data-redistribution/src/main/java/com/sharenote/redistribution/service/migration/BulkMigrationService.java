@@ -0,0 +1,243 @@
+package com.sharenote.redistribution.service.migration;
+
+import com.sharenote.redistribution.entity.Block;
+import com.sharenote.redistribution.entity.Page;
+import com.sharenote.redistribution.entity.PagePermission;
+import com.sharenote.redistribution.enums.MigrationStatus;
+import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.exception.custom.StaleFencingTokenException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.repository.jdbc.PageDataCopyStreamer;
+import com.sharenote.redistribution.repository.jdbc.PageDataJdbcRepository;
+import com.sharenote.redistribution.service.shard.ShardRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 배치 모드 마이그레이션 (같은 대상 샤드로 가는 페이지 묶음 단위 복제)
+ * <p>
+ * 1. Legacy에서 묶음 전체의 블록/권한을 page_id = ANY(?) 두 번의 조회로 읽음
+ * 2. 대상 샤드 트랜잭션 하나에서 기존 데이터 정리 → 배치 INSERT → 다이제스트 검증
+ * 3. Legacy 트랜잭션 하나에서 묶음 전체 삭제
+ * 페이지 수와 관계없이 왕복 횟수가 일정하며, 실패 시 샤드에 복제된 묶음을 정리하고 예외를 던진다.
+ * copyStreaming이 켜져 있으면 1~2단계의 블록/권한은 엔티티로 읽지 않고 COPY 스트리밍으로 복제한다.
+ * 모든 쓰기는 락과 함께 발급된 펜싱 토큰으로 보호되어, 락이 만료된 뒤 깨어난 작업자의 쓰기는 거부된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkMigrationService {
+    private final PageDataJdbcRepository pageDataJdbcRepository;
+    private final PageDataCopyStreamer pageDataCopyStreamer;
+    private final PageDigestVerifier pageDigestVerifier;
+    private final MigrationProgressCounter migrationProgressCounter;
+    private final MigrationMetrics migrationMetrics;
+    private final MigrationProperties migrationProperties;
+    private final ShardRegistry shardRegistry;
+
+    private static final String LEGACY_SHARD_KEY = "legacy";
+
+    /**
+     * 같은 대상 샤드로 가는 페이지 묶음을 마이그레이션
+     * 호출 전에 묶음의 모든 페이지가 MIGRATING 상태로 선점되어 있고 페이지 락을 보유하고 있어야 한다.
+     * @param targetShard 대상 샤드 키
+     * @param pages       선점된 페이지 묶음
+     * @param fencingToken 락과 함께 발급된 펜싱 토큰
+     */
+    public void migrateShardGroup(String targetShard, List<Page> pages, long fencingToken) {
+        List<UUID> pageIds = pages.stream().map(Page::getId).toList();
+
+        // 1. Legacy 샤드인 경우 상태만 일괄 변경
+        if (LEGACY_SHARD_KEY.equals(targetShard)) {
+            int updatedCount = transaction(LEGACY_SHARD_KEY).execute(status -> {
+                recordFencingToken(pageIds, fencingToken);
+                int updated = pageDataJdbcRepository.updateMigratingStatus(
+                        LEGACY_SHARD_KEY, pageIds, MigrationStatus.MIGRATED, fencingToken);
+                migrationProgressCounter.recordTransition(MigrationStatus.MIGRATING, MigrationStatus.MIGRATED, updated);
+                return updated;
+            });
+            if (updatedCount != pageIds.size()) {
+                log.warn("Legacy 샤드 상태 변경 수 불일치 - 예상: {}, 실제: {}", pageIds.size(), updatedCount);
+            }
+            migrationMetrics.recordMigrated(LEGACY_SHARD_KEY, updatedCount, 0);
+            log.info("Legacy 샤드 페이지 {}개 마이그레이션 완료 (상태 변경만)", updatedCount);
+            return;
+        }
+
+        // 펜싱 토큰을 Legacy에 먼저 기록 - 이후 더 작은 토큰의 상태 변경/삭제는 거부된다.
+        transaction(LEGACY_SHARD_KEY).executeWithoutResult(status -> recordFencingToken(pageIds, fencingToken));
+
+        long blockCount;
+        if (migrationProperties.isCopyStreaming()) {
+            // 2~3. 블록/권한을 COPY 스트리밍으로 복제 (단일 샤드 트랜잭션)
+            blockCount = migrationMetrics.timeStep("replicate", targetShard, () ->
+                    transaction(targetShard).execute(status -> {
+                        advanceShardFence(targetShard, pageIds, fencingToken);
+                        return streamGroup(targetShard, pages, pageIds);
+                    }));
+        } else {
+            // 2. Legacy에서 묶음 전체 데이터 조회
+            List<Block> blocks = migrationMetrics.timeStep("load", targetShard, () ->
+                    pageDataJdbcRepository.findBlocksByPageIds(LEGACY_SHARD_KEY, pageIds));
+            List<PagePermission> permissions = migrationMetrics.timeStep("load", targetShard, () ->
+                    pageDataJdbcRepository.findPermissionsByPageIds(LEGACY_SHARD_KEY, pageIds));
+            log.debug("Legacy 묶음 데이터 조회 완료 - 페이지: {}개, 블록: {}개, 권한: {}개",
+                    pageIds.size(), blocks.size(), permissions.size());
+
+            // 3. 대상 샤드로 복제 및 검증 (단일 샤드 트랜잭션)
+            blockCount = migrationMetrics.timeStep("replicate", targetShard, () ->
+                    transaction(targetShard).execute(status -> {
+                        advanceShardFence(targetShard, pageIds, fencingToken);
+                        return replicateGroup(targetShard, pages, pageIds, blocks, permissions);
+                    }));
+        }
+
+        // 4. Legacy에서 묶음 전체 삭제 (단일 Legacy 트랜잭션), 실패 시 샤드 복제본 정리
+        try {
+            migrationMetrics.timeStep("delete", targetShard, () ->
+                    transaction(LEGACY_SHARD_KEY).executeWithoutResult(status ->
+                            deleteGroupFromLegacy(pageIds, fencingToken)));
+        } catch (RuntimeException e) {
+            // 더 큰 토큰의 작업자가 이미 가져간 페이지라면 펜스에서 막혀 그 작업자의 샤드 데이터는 남는다.
+            rollbackShardGroup(targetShard, pageIds, fencingToken);
+            throw new MigrationException("Legacy 묶음 삭제 실패 - 대상 샤드: " + targetShard, e);
+        }
+        migrationMetrics.recordMigrated(targetShard, pageIds.size(), blockCount);
+
+        log.info("샤드 {} 묶음 마이그레이션 완료 - 페이지: {}개", targetShard, pageIds.size());
+    }
+
+    /**
+     * 페이지 묶음을 Legacy의 현재 상태로 대상 샤드에 다시 복제 (단일 샤드 트랜잭션, Legacy 삭제 없음)
+     * Legacy 트랜잭션이 열려 있으면 그 스냅샷으로 읽는다. 그 사이 Legacy에서 삭제된 페이지는 샤드에서도 삭제만 된다.
+     * @return 복제된 블록 수
+     */
+    long replicateCurrentState(String targetShard, List<UUID> pageIds, long fencingToken) {
+        List<Page> pages = pageDataJdbcRepository.findPagesByIds(LEGACY_SHARD_KEY, pageIds);
+
+        return migrationMetrics.timeStep("replicate", targetShard, () ->
+                transaction(targetShard).execute(status -> {
+                    advanceShardFence(targetShard, pageIds, fencingToken);
+                    return migrationProperties.isCopyStreaming()
+                            ? streamGroup(targetShard, pages, pageIds)
+                            : replicateGroup(targetShard, pages, pageIds,
+                                    pageDataJdbcRepository.findBlocksByPageIds(LEGACY_SHARD_KEY, pageIds),
+                                    pageDataJdbcRepository.findPermissionsByPageIds(LEGACY_SHARD_KEY, pageIds));
+                }));
+    }
+
+    /**
+     * Legacy 페이지에 펜싱 토큰 기록 - 호출자의 Legacy 트랜잭션에 참여
+     * 더 큰 토큰이 이미 기록된 페이지가 있으면 StaleFencingTokenException
+     */
+    void recordFencingToken(List<UUID> pageIds, long fencingToken) {
+        int recorded = pageDataJdbcRepository.recordFencingToken(LEGACY_SHARD_KEY, pageIds, fencingToken);
+        if (recorded != pageIds.size()) {
+            throw new StaleFencingTokenException(String.format(
+                    "Legacy에 더 큰 펜싱 토큰이 기록된 페이지 포함: 토큰=%d, 예상=%d, 기록=%d",
+                    fencingToken, pageIds.size(), recorded));
+        }
+    }
+
+    /**
+     * 샤드 쓰기 전에 페이지별 펜스를 올림 - 호출자의 샤드 트랜잭션에 참여
+     * 더 큰 토큰으로 이미 쓴 페이지가 있으면 StaleFencingTokenException (샤드 트랜잭션 롤백)
+     */
+    private void advanceShardFence(String targetShard, List<UUID> pageIds, long fencingToken) {
+        int advanced = pageDataJdbcRepository.advanceShardFence(targetShard, pageIds, fencingToken);
+        if (advanced != pageIds.size()) {
+            throw new StaleFencingTokenException(String.format(
+                    "샤드 %s에 더 큰 펜싱 토큰으로 쓴 페이지 포함: 토큰=%d, 예상=%d, 통과=%d",
+                    targetShard, fencingToken, pageIds.size(), advanced));
+        }
+    }
+
+    private long replicateGroup(String targetShard, List<Page> pages, List<UUID> pageIds,
+                                List<Block> blocks, List<PagePermission> permissions) {
+        int batchSize = Math.max(1, migrationProperties.getBatchSize());
+
+        // 이전 실행에서 남은 데이터 정리 후 복제
+        int leftoverPages = pageDataJdbcRepository.deletePageData(targetShard, pageIds);
+        if (leftoverPages > 0) {
+            log.warn("샤드 {}에 이미 존재하는 페이지 {}개를 삭제 후 다시 복제합니다.", targetShard, leftoverPages);
+        }
+
+        if (!pages.isEmpty()) {
+            pageDataJdbcRepository.batchInsertPages(targetShard, pages);
+        }
+        if (!blocks.isEmpty()) {
+            pageDataJdbcRepository.batchInsertBlocks(targetShard, blocks, batchSize);
+        }
+        if (!permissions.isEmpty()) {
+            pageDataJdbcRepository.batchInsertPermissions(targetShard, permissions, batchSize);
+        }
+
+        // 다이제스트 검증 - 불일치 시 예외로 샤드 트랜잭션 롤백
+        pageDigestVerifier.verify(targetShard, pageIds);
+        return blocks.size();
+    }
+
+    private long streamGroup(String targetShard, List<Page> pages, List<UUID> pageIds) {
+        int leftoverPages = pageDataJdbcRepository.deletePageData(targetShard, pageIds);
+        if (leftoverPages > 0) {
+            log.warn("샤드 {}에 이미 존재하는 페이지 {}개를 삭제 후 다시 복제합니다.", targetShard, leftoverPages);
+        }
+
+        // 페이지는 선점 시 읽어 둔 값으로 INSERT (FK 순서: 페이지 → 블록/권한)
+        if (!pages.isEmpty()) {
+            pageDataJdbcRepository.batchInsertPages(targetShard, pages);
+        }
+
+        // 블록/권한은 읽기/쓰기 행 수를 COPY 단계에서 비교
+        long blockCount = pageDataCopyStreamer.streamBlocks(LEGACY_SHARD_KEY, targetShard, pageIds);
+        long permissionCount = pageDataCopyStreamer.streamPermissions(LEGACY_SHARD_KEY, targetShard, pageIds);
+        log.debug("샤드 {} COPY 스트리밍 완료 - 페이지: {}개, 블록: {}개, 권한: {}개",
+                targetShard, pageIds.size(), blockCount, permissionCount);
+
+        // 다이제스트 검증 - 불일치 시 예외로 샤드 트랜잭션 롤백
+        pageDigestVerifier.verify(targetShard, pageIds);
+        return blockCount;
+    }
+
+    void deleteGroupFromLegacy(List<UUID> pageIds, long fencingToken) {
+        // 선점 이후 다른 경로에서 상태가 바뀌었거나 더 큰 토큰이 기록된 페이지가 있으면 묶음 전체를 되돌린다.
+        int stillMigrating = pageDataJdbcRepository.updateMigratingStatus(
+                LEGACY_SHARD_KEY, pageIds, MigrationStatus.MIGRATED, fencingToken);
+        if (stillMigrating != pageIds.size()) {
+            throw new MigrationException(String.format(
+                    "MIGRATING 상태가 아닌 페이지 포함: 예상=%d, 실제=%d", pageIds.size(), stillMigrating));
+        }
+
+        int deletedPages = pageDataJdbcRepository.deletePageData(LEGACY_SHARD_KEY, pageIds);
+        if (deletedPages != pageIds.size()) {
+            throw new MigrationException(String.format(
+                    "Legacy 페이지 삭제 수 불일치: 예상=%d, 실제=%d", pageIds.size(), deletedPages));
+        }
+        migrationProgressCounter.recordTransition(MigrationStatus.MIGRATING, null, deletedPages);
+    }
+
+    /**
+     * 샤드에 복제한 묶음 정리 - 펜스를 올릴 수 있을 때만 삭제하여 더 큰 토큰의 작업자가 쓴 데이터는 건드리지 않는다.
+     */
+    void rollbackShardGroup(String targetShard, List<UUID> pageIds, long fencingToken) {
+        try {
+            transaction(targetShard).executeWithoutResult(status -> {
+                advanceShardFence(targetShard, pageIds, fencingToken);
+                pageDataJdbcRepository.deletePageData(targetShard, pageIds);
+            });
+            log.info("샤드 {}에서 묶음 롤백 데이터 삭제 완료: {}개", targetShard, pageIds.size());
+        } catch (StaleFencingTokenException e) {
+            log.warn("샤드 {} 묶음 롤백 생략 - {}", targetShard, e.getMessage());
+        } catch (Exception e) {
+            log.error("샤드 {} 묶음 롤백 중 오류 발생", targetShard, e);
+        }
+    }
+
+    private TransactionTemplate transaction(String dataSourceKey) {
+        return shardRegistry.transaction(dataSourceKey);
+    }
+}
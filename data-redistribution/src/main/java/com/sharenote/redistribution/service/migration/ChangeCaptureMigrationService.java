@@ -0,0 +1,216 @@
+package com.sharenote.redistribution.service.migration;
+
+import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.repository.jdbc.ChangeLogJdbcRepository;
+import com.sharenote.redistribution.service.lock.DistributedLockService;
+import com.sharenote.redistribution.service.lock.FencingTokenService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 변경 로그 기반 마이그레이션 (복제 중 페이지 락 없음)
+ * <p>
+ * 1. 복제: Legacy REPEATABLE READ 트랜잭션의 스냅샷으로 묶음 전체를 샤드에 복제하고 스냅샷을 기억
+ * 2. 따라잡기: 새 스냅샷을 열어 이전 스냅샷 이후 변경된 페이지만 다시 복제 (변경이 없을 때까지, 최대 maxCatchUpRounds회)
+ * 3. 전환: 짧은 페이지 락을 잡고, Legacy 행 잠금과 전환 락으로 클라이언트 쓰기를 막은 뒤
+ *    마지막 변경분을 반영하고 Legacy 상태 변경/삭제/변경 로그 정리
+ * 페이지 락은 3단계에서만 잡으므로 클라이언트 쓰기가 막히는 시간은 마지막 변경분 복제 시간으로 줄어든다.
+ * 변경 로그는 Legacy 트리거가 기록한다. (docker/sql/03-change-log.sql)
+ * 트리거는 시작 시 change-capture.enabled에 따라 설치/제거하며, 켜져 있는 동안 쓰이지 않을 로그를 주기적으로 정리한다.
+ * 복제 시작과 전환 락 획득 시 각각 펜싱 토큰을 발급하여, 전환을 늦게 시작한 작업자는 먼저 끝난 작업자의 샤드 데이터를 덮어쓰지 못한다.
+ */
+@Slf4j
+@Service
+public class ChangeCaptureMigrationService {
+    private final BulkMigrationService bulkMigrationService;
+    private final ChangeLogJdbcRepository changeLogJdbcRepository;
+    private final DistributedLockService distributedLockService;
+    private final FencingTokenService fencingTokenService;
+    private final MigrationProperties migrationProperties;
+    private final MigrationMetrics migrationMetrics;
+    private final TransactionTemplate legacySnapshotTransaction;
+    private final TransactionTemplate legacyTransaction;
+
+    public ChangeCaptureMigrationService(BulkMigrationService bulkMigrationService,
+                                         ChangeLogJdbcRepository changeLogJdbcRepository,
+                                         DistributedLockService distributedLockService,
+                                         FencingTokenService fencingTokenService,
+                                         MigrationProperties migrationProperties,
+                                         MigrationMetrics migrationMetrics,
+                                         @Qualifier("legacyTransactionManager") PlatformTransactionManager legacyTransactionManager) {
+        this.bulkMigrationService = bulkMigrationService;
+        this.changeLogJdbcRepository = changeLogJdbcRepository;
+        this.distributedLockService = distributedLockService;
+        this.fencingTokenService = fencingTokenService;
+        this.migrationProperties = migrationProperties;
+        this.migrationMetrics = migrationMetrics;
+        this.legacySnapshotTransaction = new TransactionTemplate(legacyTransactionManager);
+        this.legacySnapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.legacyTransaction = new TransactionTemplate(legacyTransactionManager);
+    }
+
+    /**
+     * 설정에 따라 Legacy 변경 로그 트리거 설치/제거
+     * 꺼져 있으면 트리거를 제거하여 클라이언트 쓰기의 로그 기록과 전환 락 비용을 없애고, 남은 로그도 비운다.
+     */
+    @PostConstruct
+    public void applyChangeCaptureSetting() {
+        boolean enabled = migrationProperties.getChangeCapture().isEnabled();
+        try {
+            if (enabled) {
+                changeLogJdbcRepository.enableChangeCapture();
+            } else {
+                changeLogJdbcRepository.disableChangeCapture();
+            }
+            log.info("Legacy 변경 로그 트리거 {}", enabled ? "설치" : "제거");
+        } catch (DataAccessException e) {
+            log.warn("Legacy 변경 로그 트리거 {} 실패 (docker/sql/03-change-log.sql 적용 여부 확인): {}",
+                    enabled ? "설치" : "제거", e.getMessage());
+        }
+    }
+
+    /**
+     * 마이그레이션 중이 아닌 페이지의 변경 로그 정리 (변경 로그 기반 마이그레이션이 켜져 있을 때만)
+     * 전환된 페이지의 로그는 전환 트랜잭션이 지우지만, Legacy에 남는 페이지와 실패/재설정된 페이지의 로그는 여기서 지운다.
+     */
+    @Scheduled(fixedDelayString = "${app.redistribution.change-capture.log-purge-interval:600000}")
+    public void purgeChangeLog() {
+        if (!migrationProperties.getChangeCapture().isEnabled()) {
+            return;
+        }
+        try {
+            int deleted = changeLogJdbcRepository.deleteInactive();
+            if (deleted > 0) {
+                log.debug("Legacy 변경 로그 정리 - 삭제: {}건", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Legacy 변경 로그 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 대상 샤드로 가는 페이지 묶음을 마이그레이션 (Legacy 대상은 호출하지 않는다)
+     * 호출 전에 묶음의 모든 페이지가 MIGRATING 상태로 선점되어 있어야 한다.
+     * @param targetShard 대상 샤드 키
+     * @param pageIds     선점된 페이지 ID 목록
+     */
+    public void migrateShardGroup(String targetShard, List<UUID> pageIds) {
+        MigrationProperties.ChangeCaptureConfig config = migrationProperties.getChangeCapture();
+        long[] blockCount = {0};
+        long[] fencingToken = {issueFencingToken(pageIds)};
+
+        try {
+            // 1. 잠금 없이 전체 복제
+            String snapshot = legacySnapshotTransaction.execute(status -> {
+                String current = changeLogJdbcRepository.currentSnapshot();
+                blockCount[0] = bulkMigrationService.replicateCurrentState(targetShard, pageIds, fencingToken[0]);
+                return current;
+            });
+
+            // 2. 변경분 따라잡기
+            for (int round = 1; round <= config.getMaxCatchUpRounds(); round++) {
+                String sinceSnapshot = snapshot;
+                long catchUpToken = fencingToken[0];
+                CatchUpResult result = migrationMetrics.timeStep("catch_up", targetShard,
+                        () -> catchUp(targetShard, pageIds, sinceSnapshot, catchUpToken));
+                snapshot = result.snapshot;
+                if (result.changedPageCount == 0) {
+                    break;
+                }
+                log.debug("샤드 {} 변경분 따라잡기 #{} - 다시 복제한 페이지: {}개", targetShard, round, result.changedPageCount);
+            }
+
+            // 3. 짧은 락 안에서 마지막 변경분 반영 후 전환
+            String lastSnapshot = snapshot;
+            List<String> lockKeys = pageIds.stream().map(pageId -> "migration:page:" + pageId).toList();
+            distributedLockService.executeWithBatchLock(lockKeys,
+                    config.getCutoverLockWait(), config.getCutoverLockLease(), true, acquiredKeys -> {
+                        // 전환용 토큰은 락을 잡은 뒤 새로 발급한다.
+                        fencingToken[0] = issueFencingToken(pageIds);
+                        long cutoverToken = fencingToken[0];
+                        migrationMetrics.timeStep("cutover", targetShard,
+                                () -> cutover(targetShard, pageIds, lastSnapshot, cutoverToken));
+                        return null;
+                    });
+
+        } catch (RuntimeException e) {
+            bulkMigrationService.rollbackShardGroup(targetShard, pageIds, fencingToken[0]);
+            throw e;
+        }
+
+        migrationMetrics.recordMigrated(targetShard, pageIds.size(), blockCount[0]);
+        log.info("샤드 {} 변경 로그 기반 마이그레이션 완료 - 페이지: {}개", targetShard, pageIds.size());
+    }
+
+    /**
+     * 새 펜싱 토큰을 발급하여 Legacy에 기록 (REPEATABLE READ 스냅샷 트랜잭션과 분리된 짧은 트랜잭션)
+     */
+    private long issueFencingToken(List<UUID> pageIds) {
+        long token = fencingTokenService.issue();
+        legacyTransaction.executeWithoutResult(status -> bulkMigrationService.recordFencingToken(pageIds, token));
+        return token;
+    }
+
+    /**
+     * 새 스냅샷에서 이전 스냅샷 이후 변경된 페이지만 다시 복제
+     */
+    private CatchUpResult catchUp(String targetShard, List<UUID> pageIds, String sinceSnapshot, long fencingToken) {
+        return legacySnapshotTransaction.execute(status -> {
+            String current = changeLogJdbcRepository.currentSnapshot();
+            List<UUID> changedPageIds = changeLogJdbcRepository.findChangedPageIds(pageIds, sinceSnapshot);
+            if (!changedPageIds.isEmpty()) {
+                bulkMigrationService.replicateCurrentState(targetShard, changedPageIds, fencingToken);
+            }
+            return new CatchUpResult(current, changedPageIds.size());
+        });
+    }
+
+    /**
+     * 쓰기 차단 → 마지막 변경분 반영 → Legacy MIGRATED 변경/삭제 → 변경 로그 정리 (단일 Legacy 트랜잭션)
+     * REPEATABLE READ 스냅샷은 이후 커밋된 블록/권한 INSERT를 보지 못해 그대로 Legacy에 남기므로,
+     * READ COMMITTED에서 먼저 쓰기를 막고 이후 문장들이 막기 전까지 커밋된 변경을 모두 보게 한다.
+     * 샤드 복제는 Legacy 트랜잭션보다 먼저 커밋되며, Legacy 트랜잭션이 실패하면 호출자가 샤드 묶음을 정리한다.
+     */
+    private void cutover(String targetShard, List<UUID> pageIds, String sinceSnapshot, long fencingToken) {
+        legacyTransaction.executeWithoutResult(status -> {
+            changeLogJdbcRepository.lockPagesForCutover(pageIds);
+
+            List<UUID> changedPageIds = changeLogJdbcRepository.findChangedPageIds(pageIds, sinceSnapshot);
+            if (!changedPageIds.isEmpty()) {
+                log.debug("샤드 {} 전환 직전 변경분 반영 - 페이지: {}개", targetShard, changedPageIds.size());
+                bulkMigrationService.replicateCurrentState(targetShard, changedPageIds, fencingToken);
+            }
+
+            // 전환 락을 기다리던 블록/권한 INSERT는 이 트랜잭션이 커밋된 뒤 페이지 FK 위반으로 실패한다. (docker/sql/05-foreign-keys.sql)
+            bulkMigrationService.deleteGroupFromLegacy(pageIds, fencingToken);
+            changeLogJdbcRepository.deleteByPageIds(pageIds);
+        });
+    }
+
+    /**
+     * 따라잡기 결과 (다음 비교 기준 스냅샷, 다시 복제한 페이지 수)
+     */
+    private static class CatchUpResult {
+        private final String snapshot;
+        private final int changedPageCount;
+
+        private CatchUpResult(String snapshot, int changedPageCount) {
+            if (snapshot == null) {
+                throw new MigrationException("Legacy 스냅샷을 읽지 못했습니다.");
+            }
+            this.snapshot = snapshot;
+            this.changedPageCount = changedPageCount;
+        }
+    }
+}
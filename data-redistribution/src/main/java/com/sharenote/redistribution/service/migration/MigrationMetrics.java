@@ -0,0 +1,172 @@
+package com.sharenote.redistribution.service.migration;
+
+import com.sharenote.redistribution.enums.MigrationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 마이그레이션 파이프라인 메트릭 (/actuator/prometheus)
+ * <p>
+ * sharenote.migration.step{step, shard}           단계별 처리 시간 (load, replicate, validate, delete, catch_up, cutover)
+ * sharenote.migration.lock.wait{type, outcome}    분산락 획득 대기 시간 (single/multi, acquired/timeout)
+ * sharenote.migration.pages{shard}                 이동 완료 페이지 수 - rate()로 초당 처리량
+ * sharenote.migration.blocks{shard}                이동 완료 블록 수 - rate()로 초당 처리량
+ * sharenote.migration.retries{exception}           페이지 재시도 수
+ * sharenote.migration.failures{mode, exception}    실패 수 (page: 페이지 최종 실패, bulk: 묶음 실패 후 페이지 단위 재처리)
+ * sharenote.migration.pages.remaining              남은 페이지 수 (READY + MIGRATING + FAILED)
+ * sharenote.migration.eta                          최근 처리량 기준 예상 남은 시간 (초)
+ */
+@Slf4j
+@Component
+public class MigrationMetrics {
+    private final MeterRegistry meterRegistry;
+    private final MigrationProgressCounter migrationProgressCounter;
+
+    private static final String PREFIX = "sharenote.migration";
+    private static final double THROUGHPUT_SMOOTHING = 0.3;
+
+    @Getter
+    private volatile double pagesPerSecond = 0;
+
+    public MigrationMetrics(MeterRegistry meterRegistry, MigrationProgressCounter migrationProgressCounter) {
+        this.meterRegistry = meterRegistry;
+        this.migrationProgressCounter = migrationProgressCounter;
+
+        Gauge.builder(PREFIX + ".pages.remaining", this, MigrationMetrics::remainingPages)
+                .description("Pages not yet migrated (READY + MIGRATING + FAILED)")
+                .register(meterRegistry);
+        Gauge.builder(PREFIX + ".eta", this, MigrationMetrics::etaSeconds)
+                .description("Estimated seconds until migration completes at the recent throughput")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 마이그레이션 단계 실행 시간 기록
+     */
+    public <T> T timeStep(String step, String shard, Supplier<T> task) {
+        return Timer.builder(PREFIX + ".step")
+                .description("Duration of each migration step")
+                .tag("step", step)
+                .tag("shard", shard)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(task);
+    }
+
+    public void timeStep(String step, String shard, Runnable task) {
+        timeStep(step, shard, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 분산락 획득 대기 시간 기록
+     * @param type     single / multi
+     * @param acquired 획득 여부
+     */
+    public void recordLockWait(String type, boolean acquired, long waitNanos) {
+        Timer.builder(PREFIX + ".lock.wait")
+                .description("Time spent waiting for distributed page locks")
+                .tag("type", type)
+                .tag("outcome", acquired ? "acquired" : "timeout")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(waitNanos));
+    }
+
+    /**
+     * 이동이 끝난 페이지/블록 수 기록 (트랜잭션 안에서 호출되면 커밋된 뒤에만 반영)
+     */
+    public void recordMigrated(String shard, long pages, long blocks) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementMigrated(shard, pages, blocks);
+                }
+            });
+        } else {
+            incrementMigrated(shard, pages, blocks);
+        }
+    }
+
+    private void incrementMigrated(String shard, long pages, long blocks) {
+        Counter.builder(PREFIX + ".pages")
+                .description("Pages migrated")
+                .tag("shard", shard)
+                .register(meterRegistry)
+                .increment(pages);
+        Counter.builder(PREFIX + ".blocks")
+                .description("Blocks migrated")
+                .tag("shard", shard)
+                .register(meterRegistry)
+                .increment(blocks);
+    }
+
+    public void recordRetry(Throwable cause) {
+        Counter.builder(PREFIX + ".retries")
+                .description("Page migration retries")
+                .tag("exception", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * @param mode page / bulk
+     */
+    public void recordFailure(String mode, Throwable cause) {
+        Counter.builder(PREFIX + ".failures")
+                .description("Migration failures")
+                .tag("mode", mode)
+                .tag("exception", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 배치 처리량을 반영하여 ETA 계산에 쓰는 처리량(EWMA) 갱신
+     */
+    public void recordBatchThroughput(int succeededPages, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        if (seconds <= 0) {
+            return;
+        }
+        double throughput = succeededPages / seconds;
+        double previous = pagesPerSecond;
+        pagesPerSecond = previous <= 0 ? throughput
+                : THROUGHPUT_SMOOTHING * throughput + (1 - THROUGHPUT_SMOOTHING) * previous;
+    }
+
+    private double remainingPages() {
+        try {
+            Map<MigrationStatus, Long> counts = migrationProgressCounter.getCounts();
+            return counts.get(MigrationStatus.READY) + counts.get(MigrationStatus.MIGRATING)
+                    + counts.get(MigrationStatus.FAILED);
+        } catch (Exception e) {
+            log.debug("남은 페이지 수 조회 실패 ({})", e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    private double etaSeconds() {
+        double remaining = remainingPages();
+        if (remaining == 0) {
+            return 0;
+        }
+        double throughput = pagesPerSecond;
+        return throughput > 0 ? remaining / throughput : Double.NaN;
+    }
+}
@@ -0,0 +1,149 @@
+package com.sharenote.redistribution.service.migration;
+
+import com.sharenote.redistribution.enums.MigrationStatus;
+import com.sharenote.redistribution.repository.legacy.LegacyPageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마이그레이션 상태별 페이지 수 카운터 (Redis 해시)
+ * <p>
+ * 상태가 바뀔 때마다 이전 상태 -1, 새 상태 +1을 Lua로 한 번에 반영하므로 진행상황 조회는 HGETALL 한 번이다.
+ * 1. 기록: Legacy 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영 (롤백된 전이는 세지 않음)
+ * 2. 보정: 주기적으로 Legacy에서 GROUP BY 한 번으로 다시 세어 덮어씀 (서비스의 페이지 생성/삭제, 누락된 전이 보정)
+ * Legacy에서 삭제된 페이지(샤드로 이동 완료)는 새 상태 없이 이전 상태만 줄인다. (Legacy 집계와 같은 기준)
+ * 카운터 갱신 실패는 마이그레이션을 막지 않으며 다음 보정에서 바로잡힌다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MigrationProgressCounter {
+    private final RedissonClient redissonClient;
+    private final LegacyPageRepository legacyPageRepository;
+
+    private static final String COUNTER_KEY = "sharenote:migration:progress:counters";
+
+    // 보정 전(키 없음)에는 일부 상태만 생기지 않도록 아무것도 하지 않는다.
+    private static final String TRANSITION_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 0 then " +
+            "    return 0 " +
+            "end " +
+            "if ARGV[1] ~= '' then " +
+            "    redis.call('hincrby', KEYS[1], ARGV[1], -tonumber(ARGV[3])) " +
+            "end " +
+            "if ARGV[2] ~= '' then " +
+            "    redis.call('hincrby', KEYS[1], ARGV[2], tonumber(ARGV[3])) " +
+            "end " +
+            "return 1";
+
+    /**
+     * 상태 전이 기록
+     * @param from  이전 상태 (새로 생긴 페이지면 null)
+     * @param to    새 상태 (Legacy에서 삭제된 페이지면 null)
+     * @param count 전이한 페이지 수
+     */
+    public void recordTransition(MigrationStatus from, MigrationStatus to, long count) {
+        if (count <= 0 || from == to) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyTransition(from, to, count);
+                }
+            });
+        } else {
+            applyTransition(from, to, count);
+        }
+    }
+
+    /**
+     * 현재 상태별 페이지 수 (카운터가 없으면 보정 후 반환)
+     */
+    public Map<MigrationStatus, Long> getCounts() {
+        Map<String, String> values = counters().readAllMap();
+        if (values.isEmpty()) {
+            return reconcile();
+        }
+
+        Map<MigrationStatus, Long> counts = new EnumMap<>(MigrationStatus.class);
+        for (MigrationStatus status : MigrationStatus.values()) {
+            // 보정 이후 전이만 반영되는 사이에는 음수가 될 수 있으므로 0으로 맞춘다.
+            counts.put(status, Math.max(0, Long.parseLong(values.getOrDefault(status.name(), "0"))));
+        }
+        return counts;
+    }
+
+    /**
+     * Legacy를 한 번 집계하여 카운터를 덮어씀
+     */
+    public Map<MigrationStatus, Long> reconcile() {
+        Map<MigrationStatus, Long> counts = countFromLegacy();
+
+        Map<String, String> values = new HashMap<>();
+        counts.forEach((status, count) -> values.put(status.name(), String.valueOf(count)));
+        counters().putAll(values);
+
+        log.debug("마이그레이션 상태 카운터 보정 완료: {}", counts);
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${app.redistribution.progress.reconcile-interval:60000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("마이그레이션 상태 카운터 보정 실패", e);
+        }
+    }
+
+    /**
+     * Legacy 상태별 페이지 수 (GROUP BY 한 번)
+     */
+    public Map<MigrationStatus, Long> countFromLegacy() {
+        Map<MigrationStatus, Long> counts = new EnumMap<>(MigrationStatus.class);
+        for (MigrationStatus status : MigrationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : legacyPageRepository.countGroupByMigrationStatus()) {
+            if (row[0] instanceof MigrationStatus status) {
+                counts.put(status, ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+    private void applyTransition(MigrationStatus from, MigrationStatus to, long count) {
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    TRANSITION_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.of(COUNTER_KEY),
+                    from != null ? from.name() : "",
+                    to != null ? to.name() : "",
+                    String.valueOf(count));
+        } catch (Exception e) {
+            log.warn("마이그레이션 상태 카운터 갱신 실패 ({} → {}, {}개) - 다음 보정에서 반영됩니다.", from, to, count, e);
+        }
+    }
+
+    private RMap<String, String> counters() {
+        return redissonClient.getMap(COUNTER_KEY, StringCodec.INSTANCE);
+    }
+}
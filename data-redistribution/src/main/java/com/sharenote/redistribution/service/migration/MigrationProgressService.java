@@ -2,29 +2,29 @@ package com.sharenote.redistribution.service.migration;
 
 import com.sharenote.redistribution.dto.response.MigrationProgressInfo;
 import com.sharenote.redistribution.enums.MigrationStatus;
-import com.sharenote.redistribution.repository.legacy.LegacyPageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MigrationProgressService {
-    private final LegacyPageRepository legacyPageRepository;
+    private final MigrationProgressCounter migrationProgressCounter;
 
     /**
      * 현재 마이그레이션 진행상황을 조회하는 메서드
-     * Legacy DB 전용 읽기 전용 트랜잭션 사용
+     * Redis 상태 카운터를 읽고, Redis를 쓸 수 없으면 Legacy를 한 번 집계한다.
      */
-    @Transactional(value = "legacyTransactionManager", readOnly = true)
     public MigrationProgressInfo getCurrentProgress() {
         try {
-            long readyPages = legacyPageRepository.countByMigrationStatus(MigrationStatus.READY);
-            long migratingPages = legacyPageRepository.countByMigrationStatus(MigrationStatus.MIGRATING);
-            long migratedPages = legacyPageRepository.countByMigrationStatus(MigrationStatus.MIGRATED);
-            long failedPages = legacyPageRepository.countByMigrationStatus(MigrationStatus.FAILED);
+            Map<MigrationStatus, Long> counts = readCounts();
+            long readyPages = counts.get(MigrationStatus.READY);
+            long migratingPages = counts.get(MigrationStatus.MIGRATING);
+            long migratedPages = counts.get(MigrationStatus.MIGRATED);
+            long failedPages = counts.get(MigrationStatus.FAILED);
 
             long totalPages = readyPages + migratingPages + migratedPages + failedPages;
 
@@ -55,6 +55,15 @@ public class MigrationProgressService {
         }
     }
 
+    private Map<MigrationStatus, Long> readCounts() {
+        try {
+            return migrationProgressCounter.getCounts();
+        } catch (Exception e) {
+            log.warn("마이그레이션 상태 카운터 조회 실패 - Legacy 집계로 대체합니다. ({})", e.getMessage());
+            return migrationProgressCounter.countFromLegacy();
+        }
+    }
+
     /**
      * 마이그레이션 완료되었는지 확인하는 메서드
      */
@@ -0,0 +1,165 @@
+package com.sharenote.redistribution.service.migration;
+
+import com.sharenote.redistribution.dto.response.MigrationFailureEvent;
+import com.sharenote.redistribution.dto.response.MigrationProgressEvent;
+import com.sharenote.redistribution.dto.response.MigrationProgressInfo;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 마이그레이션 진행상황 SSE 스트림
+ * <p>
+ * 1. progress 이벤트: streamInterval마다 진행상황, 직전 이벤트 대비 변화량, 처리량, 활성 워커 수, 최근 실패 목록
+ * 2. failure 이벤트: 기록된 실패를 모아 두었다가 다음 전송 주기에 progress 이벤트보다 먼저 전송
+ * 소켓 쓰기는 전송 스케줄러 스레드에서만 하므로 느린 구독자가 마이그레이션 워커를 막지 않는다.
+ * 진행상황은 Redis 상태 카운터(MigrationProgressCounter), 처리량/워커 수/실패는 메모리 값만 사용하므로
+ * 구독자가 늘어나도 Legacy에 쿼리를 보내지 않으며, 구독자가 없으면 아무것도 계산하지 않는다.
+ */
+@Slf4j
+@Service
+public class MigrationProgressStreamService {
+    private final MigrationProgressService migrationProgressService;
+    private final MigrationMetrics migrationMetrics;
+    private final MigrationProperties migrationProperties;
+    private final ThreadPoolTaskExecutor migrationExecutor;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Deque<MigrationFailureEvent> recentFailures = new ArrayDeque<>();
+    private final Deque<MigrationFailureEvent> pendingFailures = new ArrayDeque<>();
+
+    private MigrationProgressInfo lastProgress;
+
+    public MigrationProgressStreamService(MigrationProgressService migrationProgressService,
+                                          MigrationMetrics migrationMetrics,
+                                          MigrationProperties migrationProperties,
+                                          @Qualifier("migrationExecutor") ThreadPoolTaskExecutor migrationExecutor) {
+        this.migrationProgressService = migrationProgressService;
+        this.migrationMetrics = migrationMetrics;
+        this.migrationProperties = migrationProperties;
+        this.migrationExecutor = migrationExecutor;
+    }
+
+    /**
+     * 새 구독자 등록 - 현재 상태를 바로 한 번 보낸다.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(migrationProperties.getProgress().getStreamTimeout());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        send(emitter, "progress", buildEvent(migrationProgressService.getCurrentProgress(), null));
+        log.debug("마이그레이션 진행상황 구독 추가 - 구독자: {}명", emitters.size());
+        return emitter;
+    }
+
+    /**
+     * 실패 기록 및 전송 대기열 추가 (워커 스레드에서 호출되므로 전송하지 않는다)
+     * 전송 주기 사이의 실패가 recentFailureLimit을 넘으면 오래된 것부터 버린다.
+     * @param mode   page / bulk
+     * @param target 페이지 ID 또는 묶음 대상 샤드
+     */
+    public void recordFailure(String mode, String target, int pageCount, Throwable cause) {
+        MigrationFailureEvent event = MigrationFailureEvent.builder()
+                .mode(mode)
+                .target(target)
+                .pageCount(pageCount)
+                .exception(cause.getClass().getSimpleName())
+                .message(cause.getMessage())
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        int limit = migrationProperties.getProgress().getRecentFailureLimit();
+        synchronized (recentFailures) {
+            recentFailures.addFirst(event);
+            while (recentFailures.size() > limit) {
+                recentFailures.removeLast();
+            }
+            if (!emitters.isEmpty()) {
+                pendingFailures.addLast(event);
+                while (pendingFailures.size() > limit) {
+                    pendingFailures.removeFirst();
+                }
+            }
+        }
+    }
+
+    /**
+     * 구독자에게 대기 중인 실패와 진행상황 전송
+     */
+    @Scheduled(fixedDelayString = "${app.redistribution.progress.stream-interval:1000}")
+    public void publishProgress() {
+        List<MigrationFailureEvent> failures = drainPendingFailures();
+        if (emitters.isEmpty()) {
+            lastProgress = null;
+            return;
+        }
+
+        failures.forEach(failure -> emitters.forEach(emitter -> send(emitter, "failure", failure)));
+
+        MigrationProgressInfo progress = migrationProgressService.getCurrentProgress();
+        MigrationProgressEvent event = buildEvent(progress, lastProgress);
+        lastProgress = progress;
+
+        emitters.forEach(emitter -> send(emitter, "progress", event));
+    }
+
+    private MigrationProgressEvent buildEvent(MigrationProgressInfo progress, MigrationProgressInfo previous) {
+        MigrationProgressEvent.MigrationProgressEventBuilder builder = MigrationProgressEvent.builder()
+                .progress(progress)
+                .pagesPerSecond(migrationMetrics.getPagesPerSecond())
+                .activeWorkers(migrationExecutor.getActiveCount())
+                .workerCount(migrationExecutor.getCorePoolSize())
+                .recentFailures(getRecentFailures())
+                .timestamp(LocalDateTime.now());
+
+        if (previous != null) {
+            builder.migratedDelta(progress.getMigratedPages() - previous.getMigratedPages())
+                    .failedDelta(progress.getFailedPages() - previous.getFailedPages())
+                    .remainingDelta(remaining(progress) - remaining(previous));
+        }
+        return builder.build();
+    }
+
+    private List<MigrationFailureEvent> drainPendingFailures() {
+        synchronized (recentFailures) {
+            List<MigrationFailureEvent> failures = new ArrayList<>(pendingFailures);
+            pendingFailures.clear();
+            return failures;
+        }
+    }
+
+    private List<MigrationFailureEvent> getRecentFailures() {
+        synchronized (recentFailures) {
+            return new ArrayList<>(recentFailures);
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 제거
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static long remaining(MigrationProgressInfo progress) {
+        return progress.getReadyPages() + progress.getMigratingPages() + progress.getFailedPages();
+    }
+}
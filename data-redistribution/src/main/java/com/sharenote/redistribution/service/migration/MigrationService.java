@@ -1,60 +1,89 @@
 package com.sharenote.redistribution.service.migration;
 
 import com.sharenote.redistribution.entity.Page;
-import com.sharenote.redistribution.enums.MigrationStatus;
 import com.sharenote.redistribution.exception.custom.LockAcquisitionException;
 import com.sharenote.redistribution.exception.custom.MigrationException;
 import com.sharenote.redistribution.exception.custom.RedisConnectionException;
+import com.sharenote.redistribution.exception.custom.StaleFencingTokenException;
 import com.sharenote.redistribution.properties.MigrationProperties;
-import com.sharenote.redistribution.repository.legacy.LegacyPageRepository;
 import com.sharenote.redistribution.service.lock.DistributedLockService;
+import com.sharenote.redistribution.service.lock.FencingTokenService;
+import com.sharenote.redistribution.service.lock.PartitionLeaseService;
+import com.sharenote.redistribution.service.shard.ShardConcurrencyLimiter;
 import com.sharenote.redistribution.service.shard.ShardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MigrationService {
-    private final LegacyPageRepository legacyPageRepository;
-
     private final DistributedLockService distributedLockService;
+    private final FencingTokenService fencingTokenService;
+    private final PartitionLeaseService partitionLeaseService;
     private final MigrationTransactionService migrationTransactionService;
+    private final BulkMigrationService bulkMigrationService;
+    private final ChangeCaptureMigrationService changeCaptureMigrationService;
+    private final AdaptiveThrottleController adaptiveThrottleController;
     private final ShardService shardService;
+    private final ShardConcurrencyLimiter shardConcurrencyLimiter;
     private final MigrationProperties migrationProperties;
+    private final MigrationMetrics migrationMetrics;
+    private final MigrationProgressStreamService migrationProgressStreamService;
+    private final ThreadPoolTaskExecutor migrationExecutor;
 
     private static final String LEGACY_SHARD_KEY = "legacy";
 
     /**
-     * 이전 마이그레이션 실패 페이지 상태를 재설정 - 개선된 버전
+     * 이전 마이그레이션 실패 페이지 상태를 재설정 - 현재 인스턴스가 임대한 파티션 중 재설정 가능한 파티션만 대상
+     * 만료된 소유자에게서 넘어온 파티션은 그 소유자가 처리 중이던 페이지를 건드리지 않도록 유예 시간 뒤에 재설정한다.
      */
-    @Transactional(value = "legacyTransactionManager", propagation = Propagation.REQUIRED)
     public void resetMigratingStatus() {
-        log.info("이전 마이그레이션 실패 페이지 상태를 재설정합니다.");
-        legacyPageRepository.updateAllMigratingPagesToReady();
-        log.info("MIGRATING 상태 페이지 {}개를 READY로 재설정 완료.");
+        resetMigratingStatus(partitionLeaseService.takeResettablePartitions());
+    }
+
+    private void resetMigratingStatus(Set<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        log.info("이전 마이그레이션 실패 페이지 상태를 재설정합니다. 파티션: {}", partitions);
+        int resetCount = migrationTransactionService.resetMigratingStatusInPartitions(
+                partitionLeaseService.getPartitionCount(), partitions);
+        log.info("MIGRATING 상태 페이지 {}개를 READY로 재설정 완료.", resetCount);
     }
 
     /**
      * 메인 마이그레이션 실행 메서드
+     * 배치 단위로 페이지를 조회하고, 배치 내 페이지는 워커 풀에서 동시에 마이그레이션한다.
      */
     public void executeMigration() {
-        log.info("페이지 마이그레이션을 시작합니다.");
+        log.info("페이지 마이그레이션을 시작합니다. (워커: {}개, 배치 모드: {})",
+                migrationProperties.getWorkerCount(), migrationProperties.isBatchMode());
 
         int processedBatchCount = 0;
-        int totalProcessedPages = 0;
+        int totalSucceededPages = 0;
         int totalFailedPages = 0;
-        int lockFailureCount = 0;
 
         while (true) {
+            // 배치 사이마다 다른 인스턴스가 반납했거나 임대가 만료된 파티션을 가져오고 균등 몫을 넘는 파티션은 반납한다.
+            partitionLeaseService.claimPartitions();
+            resetMigratingStatus();
+
             List<Page> pagesToMigrate = getNextBatchOfPagesToMigrate();
 
             if (pagesToMigrate.isEmpty()) {
@@ -64,38 +93,25 @@ public class MigrationService {
 
             log.info("배치 #{} 시작 - {}개의 페이지를 처리합니다.", ++processedBatchCount, pagesToMigrate.size());
 
-            // 배치 내의 각 페이지를 순차적으로 마이그레이션
-            for (Page page : pagesToMigrate) {
-                try {
-                    migratePageWithRetry(page);
-                    totalProcessedPages++;
-                    log.debug("페이지 {} 마이그레이션 완료", page.getId());
-                } catch (RedisConnectionException e) {
-                    log.error("Redis 연결 실패로 인한 마이그레이션 중단: 페이지 {}", page.getId(), e);
-                    throw new MigrationException("Redis 연결 실패로 인한 전체 마이그레이션 중단", e);
-
-                } catch (LockAcquisitionException e) {
-                    lockFailureCount++;
-                    totalFailedPages++;
-                    log.error("분산락 획득 실패: 페이지 {} - 다른 프로세스에서 처리 중일 수 있습니다", page.getId(), e);
-
-                    // 락 획득 실패는 READY 상태로 되돌려서 나중에 재시도 가능하도록 함
-                    migrationTransactionService.rollbackLegacyStatus(page.getId());
-
-                } catch (Exception e) {
-                    totalFailedPages++;
-                    log.error("페이지 {} 마이그레이션 최종 실패", page.getId(), e);
-                }
-            }
-
-            log.info("배치 #{} 완료 - 성공: {}, 실패: {} (락실패: {}), 누적 처리: {}",
+            long batchStartedAt = System.nanoTime();
+            BatchResult batchResult = migrationProperties.isBatchMode()
+                    ? migrateBatchInBulk(pagesToMigrate)
+                    : migrateBatchConcurrently(pagesToMigrate);
+            Duration batchElapsed = Duration.ofNanos(System.nanoTime() - batchStartedAt);
+            adaptiveThrottleController.recordBatch(pagesToMigrate.size(), batchElapsed, batchResult.lockFailed.get());
+            migrationMetrics.recordBatchThroughput(batchResult.succeeded.get(), batchElapsed);
+            totalSucceededPages += batchResult.succeeded.get();
+            totalFailedPages += batchResult.failed.get();
+
+            log.info("배치 #{} 완료 - 성공: {}, 실패: {} (락실패: {}), 누적 성공: {}, 누적 실패: {}",
                     processedBatchCount,
-                    totalProcessedPages - totalFailedPages,
-                    totalFailedPages,
-                    lockFailureCount,
-                    totalProcessedPages);
+                    batchResult.succeeded.get(),
+                    batchResult.failed.get(),
+                    batchResult.lockFailed.get(),
+                    totalSucceededPages,
+                    totalFailedPages);
 
-            if (lockFailureCount > pagesToMigrate.size() / 2) {
+            if (batchResult.lockFailed.get() > pagesToMigrate.size() / 2) {
                 log.warn("락 실패가 많습니다. 5초간 대기 후 계속 진행합니다.");
                 try {
                     Thread.sleep(5000);
@@ -103,34 +119,182 @@ public class MigrationService {
                     Thread.currentThread().interrupt();
                     throw new MigrationException("마이그레이션 중 인터럽트 발생", ie);
                 }
-                lockFailureCount = 0; // 리셋
             }
+
+            adaptiveThrottleController.pauseBeforeNextBatch();
         }
 
-        log.info("전체 마이그레이션 완료 - 총 성공: {}, 총 실패: {}",
-                totalProcessedPages - totalFailedPages, totalFailedPages);
+        log.info("전체 마이그레이션 완료 - 총 성공: {}, 총 실패: {}", totalSucceededPages, totalFailedPages);
     }
 
     /**
-     * 마이그레이션이 필요한 다음 배치의 페이지들을 조회
+     * 배치 내 페이지들을 워커 풀에서 동시에 마이그레이션
+     * Redis 연결 실패가 발생하면 아직 시작하지 않은 페이지는 건너뛰고(READY로 반납) 전체 마이그레이션을 중단한다.
      */
-    @Transactional(value = "legacyTransactionManager", readOnly = true)
-    private List<Page> getNextBatchOfPagesToMigrate() {
-        Pageable pageable = PageRequest.of(0, migrationProperties.getBatchSize());
+    private BatchResult migrateBatchConcurrently(List<Page> pagesToMigrate) {
+        BatchResult batchResult = new BatchResult();
+        AtomicReference<RedisConnectionException> redisFailure = new AtomicReference<>();
+
+        CompletableFuture<?>[] futures = pagesToMigrate.stream()
+                .map(page -> CompletableFuture.runAsync(
+                        () -> migratePageInWorker(page, batchResult, redisFailure), migrationExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+
+        if (redisFailure.get() != null) {
+            log.error("Redis 연결 실패로 배치 처리를 중단했습니다. 건너뛴 페이지: {}개", batchResult.skipped.get());
+            throw new MigrationException("Redis 연결 실패로 인한 전체 마이그레이션 중단", redisFailure.get());
+        }
+        return batchResult;
+    }
+
+    /**
+     * 배치 내 페이지들을 대상 샤드별로 묶어 묶음 단위로 마이그레이션
+     * 묶음들은 워커 풀에서 동시에 처리되며, 실패한 묶음의 페이지는 페이지 단위 마이그레이션으로 다시 처리한다.
+     */
+    private BatchResult migrateBatchInBulk(List<Page> pagesToMigrate) {
+        Map<String, List<Page>> pagesByShard = pagesToMigrate.stream()
+                .collect(Collectors.groupingBy(page -> shardService.determineTargetShard(page.getId()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        BatchResult batchResult = new BatchResult();
+        List<Page> fallbackPages = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<RedisConnectionException> redisFailure = new AtomicReference<>();
+
+        CompletableFuture<?>[] futures = pagesByShard.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> {
+                    String targetShard = entry.getKey();
+                    List<Page> pages = entry.getValue();
+                    try {
+                        migrateShardGroup(targetShard, pages);
+                        batchResult.succeeded.addAndGet(pages.size());
+                    } catch (StaleFencingTokenException e) {
+                        // 락이 만료되어 다른 작업자가 가져간 묶음 - 그 작업자가 마무리하므로 재처리하지 않는다.
+                        migrationMetrics.recordFailure("bulk", e);
+                        log.warn("샤드 {} 묶음 마이그레이션 중단 - {}", targetShard, e.getMessage());
+                        batchResult.lockFailed.addAndGet(pages.size());
+                        batchResult.failed.addAndGet(pages.size());
+                    } catch (RedisConnectionException e) {
+                        migrationMetrics.recordFailure("bulk", e);
+                        log.error("Redis 연결 실패로 인한 묶음 마이그레이션 중단: 샤드 {}", targetShard, e);
+                        redisFailure.compareAndSet(null, e);
+                        batchResult.skipped.addAndGet(pages.size());
+                        pages.forEach(page -> migrationTransactionService.rollbackLegacyStatus(page.getId()));
+                    } catch (Exception e) {
+                        migrationMetrics.recordFailure("bulk", e);
+                        migrationProgressStreamService.recordFailure("bulk", targetShard, pages.size(), e);
+                        log.warn("샤드 {} 묶음 마이그레이션 실패 - 페이지 {}개를 페이지 단위로 재처리합니다. ({})",
+                                targetShard, pages.size(), e.getMessage());
+                        fallbackPages.addAll(pages);
+                    }
+                }, migrationExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+
+        if (redisFailure.get() != null) {
+            fallbackPages.forEach(page -> migrationTransactionService.rollbackLegacyStatus(page.getId()));
+            log.error("Redis 연결 실패로 배치 처리를 중단했습니다. 건너뛴 페이지: {}개",
+                    batchResult.skipped.get() + fallbackPages.size());
+            throw new MigrationException("Redis 연결 실패로 인한 전체 마이그레이션 중단", redisFailure.get());
+        }
+
+        if (!fallbackPages.isEmpty()) {
+            BatchResult fallbackResult = migrateBatchConcurrently(fallbackPages);
+            batchResult.succeeded.addAndGet(fallbackResult.succeeded.get());
+            batchResult.failed.addAndGet(fallbackResult.failed.get());
+            batchResult.lockFailed.addAndGet(fallbackResult.lockFailed.get());
+            batchResult.skipped.addAndGet(fallbackResult.skipped.get());
+        }
+        return batchResult;
+    }
+
+    /**
+     * 같은 대상 샤드로 가는 페이지 묶음 마이그레이션 (분산락 일괄 획득, 시도당 Redis 왕복 1회)
+     * 페이지 단위와 같은 락 키/형식을 쓰므로 두 모드가 같은 페이지를 동시에 처리하지 않는다.
+     */
+    private void migrateShardGroup(String targetShard, List<Page> pages) {
+        if (isChangeCaptureTarget(targetShard)) {
+            // 복제 중에는 락 없이 진행하고 전환 시에만 짧게 락을 잡는다.
+            List<UUID> pageIds = pages.stream().map(Page::getId).toList();
+            shardConcurrencyLimiter.execute(targetShard, () -> {
+                changeCaptureMigrationService.migrateShardGroup(targetShard, pageIds);
+                return null;
+            });
+            return;
+        }
+
+        List<String> lockKeys = pages.stream()
+                .map(page -> "migration:page:" + page.getId())
+                .toList();
 
-        // READY 상태 페이지 우선 조회
-        org.springframework.data.domain.Page<Page> readyPages =
-                legacyPageRepository.findByMigrationStatusOrderByUpdatedAtAsc(MigrationStatus.READY, pageable);
+        distributedLockService.executeWithBatchLock(lockKeys, 300, 600, true, acquiredKeys -> {
+            long fencingToken = fencingTokenService.issue();
+            return shardConcurrencyLimiter.execute(targetShard, () -> {
+                bulkMigrationService.migrateShardGroup(targetShard, pages, fencingToken);
+                return null;
+            });
+        });
+    }
 
-        if (!readyPages.getContent().isEmpty()) {
-            return readyPages.getContent();
+    /**
+     * 워커 스레드에서 단일 페이지 마이그레이션
+     * 분산락 획득/해제가 모두 같은 워커 스레드에서 일어나므로 페이지 단위 락 의미는 그대로 유지된다.
+     */
+    private void migratePageInWorker(Page page, BatchResult batchResult,
+                                     AtomicReference<RedisConnectionException> redisFailure) {
+        if (redisFailure.get() != null) {
+            batchResult.skipped.incrementAndGet();
+            // 선점 시 MIGRATING으로 바뀌었으므로 다음 실행에서 다시 선점할 수 있도록 되돌린다.
+            migrationTransactionService.rollbackLegacyStatus(page.getId());
+            return;
         }
 
-        // READY가 없으면 FAILED 상태 재시도
-        org.springframework.data.domain.Page<Page> failedPages =
-                legacyPageRepository.findByMigrationStatusOrderByUpdatedAtAsc(MigrationStatus.FAILED, pageable);
+        try {
+            migratePageWithRetry(page);
+            batchResult.succeeded.incrementAndGet();
+            log.debug("페이지 {} 마이그레이션 완료", page.getId());
+        } catch (StaleFencingTokenException e) {
+            // 락이 만료되어 다른 작업자가 가져간 페이지 - 상태는 그 작업자가 관리하므로 되돌리지 않는다.
+            migrationMetrics.recordFailure("page", e);
+            batchResult.lockFailed.incrementAndGet();
+            batchResult.failed.incrementAndGet();
+            log.warn("페이지 {} 마이그레이션 중단 - {}", page.getId(), e.getMessage());
+
+        } catch (RedisConnectionException e) {
+            migrationMetrics.recordFailure("page", e);
+            log.error("Redis 연결 실패로 인한 마이그레이션 중단: 페이지 {}", page.getId(), e);
+            redisFailure.compareAndSet(null, e);
+            migrationTransactionService.rollbackLegacyStatus(page.getId());
+
+        } catch (LockAcquisitionException e) {
+            migrationMetrics.recordFailure("page", e);
+            batchResult.lockFailed.incrementAndGet();
+            batchResult.failed.incrementAndGet();
+            log.error("분산락 획득 실패: 페이지 {} - 다른 프로세스에서 처리 중일 수 있습니다", page.getId(), e);
+
+            // 락 획득 실패는 READY 상태로 되돌려서 나중에 재시도 가능하도록 함
+            migrationTransactionService.rollbackLegacyStatus(page.getId());
 
-        return failedPages.getContent();
+        } catch (Exception e) {
+            batchResult.failed.incrementAndGet();
+            log.error("페이지 {} 마이그레이션 최종 실패", page.getId(), e);
+        }
+    }
+
+    /**
+     * 마이그레이션이 필요한 다음 배치의 페이지들을 선점 (임대한 파티션 한정)
+     */
+    private List<Page> getNextBatchOfPagesToMigrate() {
+        Set<Integer> partitions = partitionLeaseService.getOwnedPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("임대한 파티션이 없어 조회할 페이지가 없습니다.");
+            return List.of();
+        }
+
+        return migrationTransactionService.claimNextBatch(
+                partitionLeaseService.getPartitionCount(), partitions, adaptiveThrottleController.getBatchSize());
     }
 
     /**
@@ -149,6 +313,9 @@ public class MigrationService {
                 migrateSinglePage(page);
                 log.info("페이지 {} 마이그레이션 성공 (시도 {}/{})", pageId, attemptCount, retryCount);
                 return;
+            } catch (StaleFencingTokenException e) {
+                // 다른 작업자가 이미 가져간 페이지는 재시도하지 않음
+                throw e;
             } catch (RedisConnectionException | LockAcquisitionException e) {
                 // Redis 관련 예외는 즉시 상위로 전파 (재시도 하지 않음)
                 log.error("분산락 문제로 페이지 {} 마이그레이션 실패 (시도 {}/{})",
@@ -156,6 +323,9 @@ public class MigrationService {
                 throw e;
             }catch (Exception e) {
                 lastException = e;
+                if (attemptCount < retryCount) {
+                    migrationMetrics.recordRetry(e);
+                }
                 log.warn("페이지 {} 마이그레이션 실패 (시도 {}/{}) - {}",
                         pageId, attemptCount, retryCount, e.getMessage());
 
@@ -173,6 +343,10 @@ public class MigrationService {
         // 최대 재시도 횟수 초과 시 실패 처리
         log.error("페이지 {} 마이그레이션 최대 재시도 횟수 초과", pageId);
         migrationTransactionService.markPageStatusAsFailed(pageId);
+        if (lastException != null) {
+            migrationMetrics.recordFailure("page", lastException);
+            migrationProgressStreamService.recordFailure("page", pageId.toString(), 1, lastException);
+        }
         throw new MigrationException("페이지 마이그레이션 최종 실패: " + pageId, lastException);
     }
 
@@ -183,25 +357,47 @@ public class MigrationService {
         UUID pageId = page.getId();
         String lockKey = "migration:page:" + pageId;
 
-        distributedLockService.executeWithLock(lockKey, 300, 600, () -> {
-            try {
-                // 전체 마이그레이션 로직을 트랜잭션 메서드로 위임
-                migrationTransactionService.performMigrationTransaction(pageId);
+        String targetShard = shardService.determineTargetShard(pageId);
+
+        if (isChangeCaptureTarget(targetShard)) {
+            // 실패 시 샤드 복제본은 정리되고 Legacy는 MIGRATING으로 남아 재시도할 수 있다.
+            shardConcurrencyLimiter.execute(targetShard, () -> {
+                changeCaptureMigrationService.migrateShardGroup(targetShard, List.of(pageId));
                 return null;
+            });
+            return;
+        }
 
-            } catch (Exception e) {
-                log.error("페이지 {} 마이그레이션 중 오류 발생", pageId, e);
-                // 롤백은 트랜잭션 밖에서 처리
-                rollbackPageMigration(pageId);
-                throw e;
-            }
+        // 락 대기 중에는 샤드 허용량을 점유하지 않도록 락 획득 후 허용량 획득
+        distributedLockService.executeWithLock(lockKey, 300, 600, () -> {
+            long fencingToken = fencingTokenService.issue();
+            return shardConcurrencyLimiter.execute(targetShard, () -> {
+                try {
+                    // 전체 마이그레이션 로직을 트랜잭션 메서드로 위임
+                    migrationTransactionService.performMigrationTransaction(pageId, fencingToken);
+                    return null;
+
+                } catch (StaleFencingTokenException e) {
+                    // 더 큰 토큰의 작업자가 쓴 데이터/상태이므로 롤백하지 않는다.
+                    throw e;
+                } catch (Exception e) {
+                    log.error("페이지 {} 마이그레이션 중 오류 발생", pageId, e);
+                    // 롤백은 트랜잭션 밖에서 처리
+                    rollbackPageMigration(pageId, fencingToken);
+                    throw e;
+                }
+            });
         });
     }
 
+    private boolean isChangeCaptureTarget(String targetShard) {
+        return migrationProperties.getChangeCapture().isEnabled() && !LEGACY_SHARD_KEY.equals(targetShard);
+    }
+
     /**
      * 마이그레이션 롤백 처리
      */
-    public void rollbackPageMigration(UUID pageId) {
+    public void rollbackPageMigration(UUID pageId, long fencingToken) {
         log.warn("페이지 {} 마이그레이션 롤백 시작", pageId);
 
         try {
@@ -209,11 +405,7 @@ public class MigrationService {
 
             // 1. 대상 샤드에서 복제된 데이터 삭제
             if (!LEGACY_SHARD_KEY.equals(targetShard)) {
-                if ("shard1".equals(targetShard)) {
-                    migrationTransactionService.rollbackShard1Data(pageId); // 프록시 호출
-                } else if ("shard2".equals(targetShard)) {
-                    migrationTransactionService.rollbackShard2Data(pageId); // 프록시 호출
-                }
+                migrationTransactionService.rollbackShardData(targetShard, pageId, fencingToken);
             }
 
             // 2. Legacy에서 상태를 READY로 복원
@@ -223,4 +415,14 @@ public class MigrationService {
             log.error("페이지 {} 마이그레이션 롤백 중 오류 발생", pageId, e);
         }
     }
+
+    /**
+     * 배치 처리 결과 (워커 스레드에서 동시에 갱신)
+     */
+    private static class BatchResult {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger lockFailed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+    }
 }
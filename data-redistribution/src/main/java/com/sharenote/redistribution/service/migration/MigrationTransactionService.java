@@ -5,16 +5,14 @@ import com.sharenote.redistribution.entity.Page;
 import com.sharenote.redistribution.entity.PagePermission;
 import com.sharenote.redistribution.enums.MigrationStatus;
 import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.exception.custom.StaleFencingTokenException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.repository.jdbc.PageDataJdbcRepository;
 import com.sharenote.redistribution.repository.legacy.LegacyBlockRepository;
 import com.sharenote.redistribution.repository.legacy.LegacyPagePermissionRepository;
 import com.sharenote.redistribution.repository.legacy.LegacyPageRepository;
-import com.sharenote.redistribution.repository.shard1.Shard1BlockRepository;
-import com.sharenote.redistribution.repository.shard1.Shard1PagePermissionRepository;
-import com.sharenote.redistribution.repository.shard1.Shard1PageRepository;
-import com.sharenote.redistribution.repository.shard2.Shard2BlockRepository;
-import com.sharenote.redistribution.repository.shard2.Shard2PagePermissionRepository;
-import com.sharenote.redistribution.repository.shard2.Shard2PageRepository;
 import com.sharenote.redistribution.service.migration.vo.MigrationDataVo;
+import com.sharenote.redistribution.service.shard.ShardRegistry;
 import com.sharenote.redistribution.service.shard.ShardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +20,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,30 +33,33 @@ public class MigrationTransactionService {
     private final LegacyBlockRepository legacyBlockRepository;
     private final LegacyPagePermissionRepository legacyPagePermissionRepository;
 
-    private final Shard1PageRepository shard1PageRepository;
-    private final Shard1BlockRepository shard1BlockRepository;
-    private final Shard1PagePermissionRepository shard1PagePermissionRepository;
-
-    private final Shard2PageRepository shard2PageRepository;
-    private final Shard2BlockRepository shard2BlockRepository;
-    private final Shard2PagePermissionRepository shard2PagePermissionRepository;
-
+    private final PageDataJdbcRepository pageDataJdbcRepository;
+    private final PageDigestVerifier pageDigestVerifier;
+    private final MigrationProgressCounter migrationProgressCounter;
+    private final MigrationMetrics migrationMetrics;
     private final ShardService shardService;
+    private final ShardRegistry shardRegistry;
+    private final MigrationProperties migrationProperties;
 
     private static final String LEGACY_SHARD_KEY = "legacy";
 
 
     /**
      * 실제 마이그레이션 로직 (단일 트랜잭션으로 처리)
+     * 펜싱 토큰을 기록한 Legacy 페이지 행은 트랜잭션이 끝날 때까지 잠겨 있으므로, 더 큰 토큰의 작업자는 그 뒤에야 진행한다.
+     * @param fencingToken 페이지 락과 함께 발급된 펜싱 토큰
      */
     @Transactional("legacyTransactionManager")
-    public void performMigrationTransaction(UUID pageId) {
+    public void performMigrationTransaction(UUID pageId, long fencingToken) {
         // 1. 마이그레이션 상태를 MIGRATING으로 변경
         int updatedCount = legacyPageRepository.updateMigrationStatusOnly(pageId, MigrationStatus.MIGRATING);
         if (updatedCount == 0) {
             throw new MigrationException("페이지 상태 업데이트 실패: " + pageId);
         }
-        log.debug("페이지 {} 상태를 MIGRATING으로 변경", pageId);
+        if (pageDataJdbcRepository.recordFencingToken(LEGACY_SHARD_KEY, List.of(pageId), fencingToken) == 0) {
+            throw new StaleFencingTokenException("Legacy에 더 큰 펜싱 토큰이 기록된 페이지: " + pageId + ", 토큰=" + fencingToken);
+        }
+        log.debug("페이지 {} 상태를 MIGRATING으로 변경 (펜싱 토큰: {})", pageId, fencingToken);
 
         // 2. 대상 샤드 결정
         String targetShard = shardService.determineTargetShard(pageId);
@@ -65,27 +68,73 @@ public class MigrationTransactionService {
         // 3. Legacy 샤드인 경우 상태만 변경
         if (LEGACY_SHARD_KEY.equals(targetShard)) {
             legacyPageRepository.updateMigrationStatusOnly(pageId, MigrationStatus.MIGRATED);
+            migrationProgressCounter.recordTransition(MigrationStatus.MIGRATING, MigrationStatus.MIGRATED, 1);
+            migrationMetrics.recordMigrated(LEGACY_SHARD_KEY, 1, 0);
             log.info("페이지 {} Legacy 샤드 마이그레이션 완료 (상태 변경만)", pageId);
             return;
         }
 
         // 4. Legacy에서 데이터 조회
-        MigrationDataVo migrationData = loadPageDataFromLegacy(pageId);
-        log.debug("Legacy 데이터 조회 완료 - 페이지: {}, 블록: {}개, 권한: {}개",
-                pageId, migrationData.getBlocks().size(), migrationData.getPermissions().size());
+        MigrationDataVo migrationData = migrationMetrics.timeStep("load", targetShard,
+                () -> loadPageDataFromLegacy(pageId));
+        migrationData.setFencingToken(fencingToken);
+        log.debug("Legacy 데이터 조회 완료 - 페이지: {}, 블록: {}개{}, 권한: {}개",
+                pageId, migrationData.getBlockCount(), migrationData.isStreamBlocks() ? " (스트리밍)" : "",
+                migrationData.getPermissions().size());
 
         // 5. 대상 샤드로 데이터 복제 (별도 트랜잭션)
-        replicatePageDataToTargetShard(migrationData, targetShard);
+        migrationMetrics.timeStep("replicate", targetShard,
+                () -> replicatePageDataToTargetShard(migrationData, targetShard));
 
         // 6. 데이터 검증 (별도 트랜잭션)
         validateMigratedData(migrationData, targetShard);
 
         // 7. Legacy DB에서 데이터 삭제
-        deletePageDataFromLegacy(pageId, migrationData);
+        migrationMetrics.timeStep("delete", targetShard, () -> deletePageDataFromLegacy(pageId, migrationData));
+        migrationProgressCounter.recordTransition(MigrationStatus.MIGRATING, null, 1);
+        migrationMetrics.recordMigrated(targetShard, 1, migrationData.getBlockCount());
 
         log.info("페이지 {} 마이그레이션 완료", pageId);
     }
 
+    /**
+     * 지정한 파티션에서 다음 배치의 페이지를 선점 - Legacy DB 전용 트랜잭션
+     * READY 상태를 우선 선점하고, 없으면 FAILED 상태를 재시도 대상으로 선점한다.
+     * 선점된 페이지는 커밋 시점에 MIGRATING 상태가 되므로 다른 워커와 겹치지 않는다.
+     */
+    @Transactional("legacyTransactionManager")
+    public List<Page> claimNextBatch(int partitionCount, Collection<Integer> partitions, int batchSize) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+
+        List<Page> readyPages = legacyPageRepository.claimByMigrationStatusInPartitions(
+                MigrationStatus.READY.name(), partitionCount, partitions, batchSize);
+        if (!readyPages.isEmpty()) {
+            migrationProgressCounter.recordTransition(MigrationStatus.READY, MigrationStatus.MIGRATING, readyPages.size());
+            return readyPages;
+        }
+
+        List<Page> failedPages = legacyPageRepository.claimByMigrationStatusInPartitions(
+                MigrationStatus.FAILED.name(), partitionCount, partitions, batchSize);
+        migrationProgressCounter.recordTransition(MigrationStatus.FAILED, MigrationStatus.MIGRATING, failedPages.size());
+        return failedPages;
+    }
+
+    /**
+     * 지정한 파티션의 MIGRATING 페이지를 READY로 재설정 - Legacy DB 전용 트랜잭션
+     * 다른 인스턴스가 임대한 파티션의 처리 중 페이지는 건드리지 않는다.
+     */
+    @Transactional("legacyTransactionManager")
+    public int resetMigratingStatusInPartitions(int partitionCount, Collection<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        int resetCount = legacyPageRepository.updateMigratingPagesToReadyInPartitions(partitionCount, partitions);
+        migrationProgressCounter.recordTransition(MigrationStatus.MIGRATING, MigrationStatus.READY, resetCount);
+        return resetCount;
+    }
+
     /**
      * 페이지의 마이그레이션 상태를 업데이트 - Legacy DB 전용 트랜잭션
      */
@@ -116,18 +165,25 @@ public class MigrationTransactionService {
                 throw new MigrationException("페이지 상태가 MIGRATING이 아닙니다: " + pageId);
             }
 
-            // 블록 데이터 조회
-            List<Block> blocks = legacyBlockRepository.findByPageIdOrderByPosition(pageId);
+            // 블록 데이터 조회 - 블록이 많은 페이지는 복제 시 커서로 스트리밍
+            long blockCount = legacyBlockRepository.countByPageId(pageId);
+            long streamingThreshold = migrationProperties.getBlockStreamingThreshold();
+            boolean streamBlocks = streamingThreshold > 0 && blockCount > streamingThreshold;
+            List<Block> blocks = streamBlocks
+                    ? new ArrayList<>()
+                    : legacyBlockRepository.findByPageIdOrderByPosition(pageId);
 
             // 권한 데이터 조회
             List<PagePermission> permissions = legacyPagePermissionRepository.findByPageId(pageId);
 
             log.debug("Legacy에서 데이터 조회 완료 - 페이지: {}, 블록: {}개, 권한: {}개",
-                    pageId, blocks.size(), permissions.size());
+                    pageId, blockCount, permissions.size());
 
             return MigrationDataVo.builder()
                     .page(page)
                     .blocks(blocks)
+                    .blockCount(streamBlocks ? blockCount : blocks.size())
+                    .streamBlocks(streamBlocks)
                     .permissions(permissions)
                     .build();
 
@@ -141,13 +197,16 @@ public class MigrationTransactionService {
      */
     public void deletePageDataFromLegacy(UUID pageId, MigrationDataVo originalData) {
         try {
+            // 변경 로그 트리거가 삭제된 행을 기록하지 않게 함
+            pageDataJdbcRepository.markMigrationWrite(LEGACY_SHARD_KEY);
+
             // 1. 권한 삭제 (FK 제약조건으로 인해 먼저)
             int deletedPermissions = legacyPagePermissionRepository.deleteByPageId(pageId);
             log.debug("삭제된 권한 수: {} (예상: {})", deletedPermissions, originalData.getPermissions().size());
 
             // 2. 블록 삭제 (FK 제약조건으로 인해 먼저)
             int deletedBlocks = legacyBlockRepository.deleteByPageId(pageId);
-            log.debug("삭제된 블록 수: {} (예상: {})", deletedBlocks, originalData.getBlocks().size());
+            log.debug("삭제된 블록 수: {} (예상: {})", deletedBlocks, originalData.getBlockCount());
 
             // 3. 페이지 삭제
             legacyPageRepository.deleteById(pageId);
@@ -166,42 +225,41 @@ public class MigrationTransactionService {
     }
 
     /**
-     * 대상 샤드로 데이터를 복제
+     * 대상 샤드로 데이터를 복제 - 대상 샤드 트랜잭션
+     * ID가 할당된 엔티티를 save하면 merge로 행마다 SELECT가 먼저 나가므로, INSERT 전용 JDBC 배치로 저장한다.
      */
     public void replicatePageDataToTargetShard(MigrationDataVo migrationData, String targetShard) {
         UUID pageId = migrationData.getPage().getId();
 
         try {
-            if ("shard1".equals(targetShard)) {
-                replicateToShard1(migrationData);
-            } else if ("shard2".equals(targetShard)) {
-                replicateToShard2(migrationData);
-            } else {
+            if (!shardRegistry.isShard(targetShard)) {
                 throw new MigrationException("알 수 없는 대상 샤드: " + targetShard);
             }
+            shardRegistry.transaction(targetShard).executeWithoutResult(status ->
+                    insertPageDataToShard(targetShard, migrationData));
 
             log.debug("페이지 {} 데이터 복제 완료: {}", pageId, targetShard);
 
+        } catch (StaleFencingTokenException e) {
+            throw e;
         } catch (Exception e) {
             throw new MigrationException("대상 샤드 " + targetShard + "로 데이터 복제 실패", e);
         }
     }
 
     /**
-     * 마이그레이션된 데이터 검증
+     * 마이그레이션된 데이터 검증 - Legacy/샤드 양쪽 다이제스트 비교
      */
     public void validateMigratedData(MigrationDataVo originalData, String targetShard) {
         try {
             UUID pageId = originalData.getPageId();
 
-            if ("shard1".equals(targetShard)) {
-                validateShard1Data(originalData);
-            } else if ("shard2".equals(targetShard)) {
-                validateShard2Data(originalData);
-            } else {
+            if (!shardRegistry.isShard(targetShard)) {
                 throw new MigrationException("알 수 없는 대상 샤드: " + targetShard);
             }
 
+            pageDigestVerifier.verify(targetShard, List.of(pageId));
+
             log.debug("데이터 검증 완료: {}", pageId);
 
         } catch (Exception e) {
@@ -210,163 +268,59 @@ public class MigrationTransactionService {
     }
 
     /**
-     * Shard1 데이터 검증 - Shard1 읽기 전용 트랜잭션
+     * 대상 샤드에 페이지/블록/권한을 INSERT만으로 복제 (영속성 컨텍스트를 거치지 않음)
      */
-    @Transactional(value = "shard1TransactionManager", readOnly = true, propagation = Propagation.REQUIRES_NEW)
-    public void validateShard1Data(MigrationDataVo originalData) {
-        UUID pageId = originalData.getPageId();
-
-        // 1. 페이지 존재 및 속성 검증
-        Page migratedPage = shard1PageRepository.findById(pageId)
-                .orElseThrow(() -> new MigrationException("마이그레이션된 페이지를 찾을 수 없습니다: " + pageId));
-
-        if (!migratedPage.getTitle().equals(originalData.getPage().getTitle())) {
-            throw new MigrationException("페이지 제목 불일치: " + pageId);
-        }
-
-        // 2. 블록 수 검증
-        long migratedBlockCount = shard1BlockRepository.countByPageId(pageId);
-        if (migratedBlockCount != originalData.getBlocks().size()) {
-            throw new MigrationException(String.format(
-                    "블록 개수 불일치: 원본=%d, 마이그레이션=%d, 페이지=%s",
-                    originalData.getBlocks().size(), migratedBlockCount, pageId));
-        }
-
-        // 3. 권한 수 검증
-        long migratedPermissionCount = shard1PagePermissionRepository.countByPageId(pageId);
-        if (migratedPermissionCount != originalData.getPermissions().size()) {
-            throw new MigrationException(String.format(
-                    "권한 개수 불일치: 원본=%d, 마이그레이션=%d, 페이지=%s",
-                    originalData.getPermissions().size(), migratedPermissionCount, pageId));
-        }
-
-        log.debug("Shard1 데이터 검증 완료 - 페이지: {}, 블록: {}, 권한: {}",
-                pageId, migratedBlockCount, migratedPermissionCount);
-    }
-
-    /**
-     * Shard2 데이터 검증 - Shard2 읽기 전용 트랜잭션
-     */
-    @Transactional(value = "shard2TransactionManager", readOnly = true, propagation = Propagation.REQUIRES_NEW)
-    public void validateShard2Data(MigrationDataVo originalData) {
-        UUID pageId = originalData.getPageId();
-
-        // 1. 페이지 존재 및 속성 검증
-        Page migratedPage = shard2PageRepository.findById(pageId)
-                .orElseThrow(() -> new MigrationException("마이그레이션된 페이지를 찾을 수 없습니다: " + pageId));
-
-        if (!migratedPage.getTitle().equals(originalData.getPage().getTitle())) {
-            throw new MigrationException("페이지 제목 불일치: " + pageId);
-        }
-
-        // 2. 블록 수 검증
-        long migratedBlockCount = shard2BlockRepository.countByPageId(pageId);
-        if (migratedBlockCount != originalData.getBlocks().size()) {
-            throw new MigrationException(String.format(
-                    "블록 개수 불일치: 원본=%d, 마이그레이션=%d, 페이지=%s",
-                    originalData.getBlocks().size(), migratedBlockCount, pageId));
-        }
-
-        // 3. 권한 수 검증
-        long migratedPermissionCount = shard2PagePermissionRepository.countByPageId(pageId);
-        if (migratedPermissionCount != originalData.getPermissions().size()) {
-            throw new MigrationException(String.format(
-                    "권한 개수 불일치: 원본=%d, 마이그레이션=%d, 페이지=%s",
-                    originalData.getPermissions().size(), migratedPermissionCount, pageId));
-        }
-
-        log.debug("Shard2 데이터 검증 완료 - 페이지: {}, 블록: {}, 권한: {}",
-                pageId, migratedBlockCount, migratedPermissionCount);
-    }
-
-    /**
-     * Shard1으로 데이터 복제 - Shard1 트랜잭션
-     */
-    @Transactional(value = "shard1TransactionManager", propagation = Propagation.REQUIRES_NEW)
-    public void replicateToShard1(MigrationDataVo migrationData) {
+    private void insertPageDataToShard(String targetShard, MigrationDataVo migrationData) {
         UUID pageId = migrationData.getPage().getId();
+        int batchSize = Math.max(1, migrationProperties.getBatchSize());
 
-        // 중복 체크 후 삭제
-        if (shard1PageRepository.existsById(pageId)) {
-            log.warn("페이지 {}가 이미 Shard1에 존재합니다. 기존 데이터를 삭제합니다.", pageId);
-            shard1PagePermissionRepository.deleteByPageId(pageId);
-            shard1BlockRepository.deleteByPageId(pageId);
-            shard1PageRepository.deleteById(pageId);
-        }
-
-        // 1. 페이지 복제
-        Page savedPage = shard1PageRepository.save(migrationData.getPage());
-        log.debug("Shard1 페이지 {} 복제 완료", savedPage.getId());
-
-        // 2. 블록들 복제
-        if (!migrationData.getBlocks().isEmpty()) {
-            List<Block> savedBlocks = shard1BlockRepository.saveAll(migrationData.getBlocks());
-            log.debug("Shard1 블록 {}개 복제 완료", savedBlocks.size());
+        // 펜스를 먼저 올려 더 큰 토큰으로 이미 쓴 작업자의 데이터를 덮어쓰지 않도록 한다.
+        if (pageDataJdbcRepository.advanceShardFence(targetShard, List.of(pageId), migrationData.getFencingToken()) == 0) {
+            throw new StaleFencingTokenException(String.format("샤드 %s에 더 큰 펜싱 토큰으로 쓴 페이지: %s, 토큰=%d",
+                    targetShard, pageId, migrationData.getFencingToken()));
         }
 
-        // 3. 권한들 복제
-        if (!migrationData.getPermissions().isEmpty()) {
-            List<PagePermission> savedPermissions = shard1PagePermissionRepository.saveAll(migrationData.getPermissions());
-            log.debug("Shard1 권한 {}개 복제 완료", savedPermissions.size());
-        }
-    }
-
-    /**
-     * Shard2로 데이터 복제 - Shard2 트랜잭션
-     */
-    @Transactional(value = "shard2TransactionManager", propagation = Propagation.REQUIRES_NEW)
-    public void replicateToShard2(MigrationDataVo migrationData) {
-        UUID pageId = migrationData.getPage().getId();
-
         // 중복 체크 후 삭제
-        if (shard2PageRepository.existsById(pageId)) {
-            log.warn("페이지 {}가 이미 Shard2에 존재합니다. 기존 데이터를 삭제합니다.", pageId);
-            shard2PagePermissionRepository.deleteByPageId(pageId);
-            shard2BlockRepository.deleteByPageId(pageId);
-            shard2PageRepository.deleteById(pageId);
+        if (pageDataJdbcRepository.deletePageData(targetShard, List.of(pageId)) > 0) {
+            log.warn("페이지 {}가 이미 {}에 존재합니다. 기존 데이터를 삭제했습니다.", pageId, targetShard);
         }
 
         // 1. 페이지 복제
-        Page savedPage = shard2PageRepository.save(migrationData.getPage());
-        log.debug("Shard2 페이지 {} 복제 완료", savedPage.getId());
-
-        // 2. 블록들 복제
-        if (!migrationData.getBlocks().isEmpty()) {
-            List<Block> savedBlocks = shard2BlockRepository.saveAll(migrationData.getBlocks());
-            log.debug("Shard2 블록 {}개 복제 완료", savedBlocks.size());
+        pageDataJdbcRepository.batchInsertPages(targetShard, List.of(migrationData.getPage()));
+        log.debug("{} 페이지 {} 복제 완료", targetShard, pageId);
+
+        // 2. 블록들 복제 - 스트리밍 모드면 Legacy 트랜잭션의 커서에서 청크 단위로 읽어 바로 INSERT
+        if (migrationData.isStreamBlocks()) {
+            int fetchSize = Math.max(1, migrationProperties.getBlockFetchSize());
+            long streamedBlocks = pageDataJdbcRepository.streamBlocksByPageId(LEGACY_SHARD_KEY, pageId, fetchSize,
+                    chunk -> pageDataJdbcRepository.batchInsertBlocks(targetShard, chunk, fetchSize));
+            log.debug("{} 블록 {}개 스트리밍 복제 완료", targetShard, streamedBlocks);
+        } else if (!migrationData.getBlocks().isEmpty()) {
+            pageDataJdbcRepository.batchInsertBlocks(targetShard, migrationData.getBlocks(), batchSize);
+            log.debug("{} 블록 {}개 복제 완료", targetShard, migrationData.getBlocks().size());
         }
 
         // 3. 권한들 복제
         if (!migrationData.getPermissions().isEmpty()) {
-            List<PagePermission> savedPermissions = shard2PagePermissionRepository.saveAll(migrationData.getPermissions());
-            log.debug("Shard2 권한 {}개 복제 완료", savedPermissions.size());
+            pageDataJdbcRepository.batchInsertPermissions(targetShard, migrationData.getPermissions(), batchSize);
+            log.debug("{} 권한 {}개 복제 완료", targetShard, migrationData.getPermissions().size());
         }
     }
 
     /**
-     * Shard1 데이터 롤백 - Shard1 트랜잭션
+     * 샤드 데이터 롤백 - 대상 샤드 트랜잭션
+     * 더 큰 펜싱 토큰으로 쓴 작업자가 있으면 그 데이터는 건드리지 않는다.
      */
-    @Transactional(value = "shard1TransactionManager", propagation = Propagation.REQUIRES_NEW)
-    public void rollbackShard1Data(UUID pageId) {
-        if (shard1PageRepository.existsById(pageId)) {
-            shard1PagePermissionRepository.deleteByPageId(pageId);
-            shard1BlockRepository.deleteByPageId(pageId);
-            shard1PageRepository.deleteById(pageId);
-            log.info("Shard1에서 롤백 데이터 삭제 완료: {}", pageId);
-        }
-    }
-
-    /**
-     * Shard2 데이터 롤백 - Shard2 트랜잭션
-     */
-    @Transactional(value = "shard2TransactionManager", propagation = Propagation.REQUIRES_NEW)
-    public void rollbackShard2Data(UUID pageId) {
-        if (shard2PageRepository.existsById(pageId)) {
-            shard2PagePermissionRepository.deleteByPageId(pageId);
-            shard2BlockRepository.deleteByPageId(pageId);
-            shard2PageRepository.deleteById(pageId);
-            log.info("Shard2에서 롤백 데이터 삭제 완료: {}", pageId);
-        }
+    public void rollbackShardData(String targetShard, UUID pageId, long fencingToken) {
+        shardRegistry.transaction(targetShard).executeWithoutResult(status -> {
+            if (pageDataJdbcRepository.advanceShardFence(targetShard, List.of(pageId), fencingToken) == 0) {
+                log.warn("샤드 {} 롤백 생략 - 더 큰 펜싱 토큰으로 쓴 페이지: {}", targetShard, pageId);
+                return;
+            }
+            if (pageDataJdbcRepository.deletePageData(targetShard, List.of(pageId)) > 0) {
+                log.info("샤드 {}에서 롤백 데이터 삭제 완료: {}", targetShard, pageId);
+            }
+        });
     }
 
     /**
@@ -377,6 +331,7 @@ public class MigrationTransactionService {
         try {
             if (legacyPageRepository.existsById(pageId)) {
                 updatePageMigrationStatus(pageId, MigrationStatus.READY);
+                migrationProgressCounter.recordTransition(MigrationStatus.MIGRATING, MigrationStatus.READY, 1);
                 log.info("Legacy에서 마이그레이션 상태 READY로 복원 완료: {}", pageId);
             }
         } catch (Exception e) {
@@ -392,6 +347,7 @@ public class MigrationTransactionService {
         try {
             if (legacyPageRepository.existsById(pageId)) {
                 updatePageMigrationStatus(pageId, MigrationStatus.FAILED);
+                migrationProgressCounter.recordTransition(MigrationStatus.MIGRATING, MigrationStatus.FAILED, 1);
                 log.warn("페이지 {} 마이그레이션 상태를 FAILED로 변경", pageId);
             }
         } catch (Exception e) {
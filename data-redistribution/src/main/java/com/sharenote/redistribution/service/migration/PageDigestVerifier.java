@@ -0,0 +1,73 @@
+package com.sharenote.redistribution.service.migration;
+
+import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.repository.jdbc.PageDataJdbcRepository;
+import com.sharenote.redistribution.service.migration.vo.PageDigestVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 마이그레이션된 페이지의 내용 다이제스트 검증
+ * <p>
+ * Legacy와 대상 샤드에서 각각 집계 쿼리 한 번으로 페이지/블록/권한 다이제스트를 계산해 비교한다.
+ * 제목이나 개수뿐 아니라 모든 컬럼 값이 같은지 확인하며, 행을 JVM으로 가져오지 않는다.
+ * 대상 샤드 트랜잭션 안에서 호출하면 아직 커밋되지 않은 복제본도 검증할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageDigestVerifier {
+    private final PageDataJdbcRepository pageDataJdbcRepository;
+    private final MigrationMetrics migrationMetrics;
+
+    private static final String LEGACY_SHARD_KEY = "legacy";
+
+    /**
+     * Legacy와 대상 샤드의 페이지 묶음 다이제스트 비교
+     * @throws MigrationException 개수나 다이제스트가 다를 때
+     */
+    public void verify(String targetShard, Collection<UUID> pageIds) {
+        migrationMetrics.timeStep("validate", targetShard, () -> compareDigests(targetShard, pageIds));
+    }
+
+    private void compareDigests(String targetShard, Collection<UUID> pageIds) {
+        PageDigestVo legacyDigest = pageDataJdbcRepository.computeDigest(LEGACY_SHARD_KEY, pageIds);
+        PageDigestVo shardDigest = pageDataJdbcRepository.computeDigest(targetShard, pageIds);
+
+        compare("페이지", pageIds, targetShard,
+                legacyDigest.getPageCount(), shardDigest.getPageCount(),
+                legacyDigest.getPageDigest(), shardDigest.getPageDigest());
+        compare("블록", pageIds, targetShard,
+                legacyDigest.getBlockCount(), shardDigest.getBlockCount(),
+                legacyDigest.getBlockDigest(), shardDigest.getBlockDigest());
+        compare("권한", pageIds, targetShard,
+                legacyDigest.getPermissionCount(), shardDigest.getPermissionCount(),
+                legacyDigest.getPermissionDigest(), shardDigest.getPermissionDigest());
+
+        log.debug("다이제스트 검증 완료 - 샤드: {}, 페이지: {}개, 블록: {}개, 권한: {}개",
+                targetShard, legacyDigest.getPageCount(), legacyDigest.getBlockCount(), legacyDigest.getPermissionCount());
+    }
+
+    private void compare(String target, Collection<UUID> pageIds, String targetShard,
+                         long legacyCount, long shardCount, String legacyDigest, String shardDigest) {
+        if (legacyCount != shardCount) {
+            throw new MigrationException(String.format(
+                    "%s 개수 불일치: 원본=%d, 마이그레이션=%d, 샤드=%s, 페이지=%s",
+                    target, legacyCount, shardCount, targetShard, describe(pageIds)));
+        }
+        if (!Objects.equals(legacyDigest, shardDigest)) {
+            throw new MigrationException(String.format(
+                    "%s 내용 불일치: 원본=%s, 마이그레이션=%s, 샤드=%s, 페이지=%s",
+                    target, legacyDigest, shardDigest, targetShard, describe(pageIds)));
+        }
+    }
+
+    private static String describe(Collection<UUID> pageIds) {
+        return pageIds.size() == 1 ? pageIds.iterator().next().toString() : pageIds.size() + "개";
+    }
+}
@@ -0,0 +1,52 @@
+package com.sharenote.redistribution.service.migration.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 페이지 ID 접두사 버킷의 테이블별 행 수와 행 해시 합 (mod 2^64)
+ * 합으로 계산하므로 여러 데이터베이스의 같은 버킷 값을 더하면 전체 합집합의 버킷 값이 된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketDigestVo {
+    private long pageCount;
+    private long pageHashSum;
+
+    private long blockCount;
+    private long blockHashSum;
+
+    private long permissionCount;
+    private long permissionHashSum;
+
+    public static BucketDigestVo empty() {
+        return new BucketDigestVo();
+    }
+
+    public BucketDigestVo plus(BucketDigestVo other) {
+        return new BucketDigestVo(
+                pageCount + other.pageCount, pageHashSum + other.pageHashSum,
+                blockCount + other.blockCount, blockHashSum + other.blockHashSum,
+                permissionCount + other.permissionCount, permissionHashSum + other.permissionHashSum);
+    }
+
+    /**
+     * 저장용 문자열 (콜론 구분)
+     */
+    public String toToken() {
+        return pageCount + ":" + pageHashSum + ":" + blockCount + ":" + blockHashSum
+                + ":" + permissionCount + ":" + permissionHashSum;
+    }
+
+    public static BucketDigestVo fromToken(String token) {
+        String[] values = token.split(":");
+        return new BucketDigestVo(
+                Long.parseLong(values[0]), Long.parseLong(values[1]),
+                Long.parseLong(values[2]), Long.parseLong(values[3]),
+                Long.parseLong(values[4]), Long.parseLong(values[5]));
+    }
+}
@@ -25,6 +25,21 @@ public class MigrationDataVo {
     @Builder.Default
     private List<PagePermission> permissions = new ArrayList<>();
 
+    /**
+     * Legacy 기준 블록 수 (스트리밍 모드에서는 blocks가 비어 있으므로 검증에 이 값을 사용)
+     */
+    private long blockCount;
+
+    /**
+     * true면 blocks를 메모리에 올리지 않고 복제 시 Legacy 커서에서 청크 단위로 읽는다.
+     */
+    private boolean streamBlocks;
+
+    /**
+     * 페이지 락과 함께 발급된 펜싱 토큰 (샤드 쓰기 전에 migration_fence에 기록)
+     */
+    private long fencingToken;
+
     public UUID getPageId() {
         return page != null ? page.getId() : null;
     }
@@ -0,0 +1,24 @@
+package com.sharenote.redistribution.service.migration.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 페이지 묶음의 테이블별 행 수와 내용 다이제스트
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDigestVo {
+    private long pageCount;
+    private String pageDigest;
+
+    private long blockCount;
+    private String blockDigest;
+
+    private long permissionCount;
+    private String permissionDigest;
+}
@@ -0,0 +1,50 @@
+package com.sharenote.redistribution.service.shard;
+
+import com.sharenote.redistribution.exception.custom.MigrationException;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 대상 샤드별 동시 마이그레이션 수 제한
+ * 워커 수가 늘어나도 특정 샤드의 커넥션 풀이 고갈되지 않도록 샤드마다 허용량(Semaphore)을 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardConcurrencyLimiter {
+    private final MigrationProperties migrationProperties;
+
+    private final Map<String, Semaphore> shardPermits = new ConcurrentHashMap<>();
+
+    /**
+     * 대상 샤드의 허용량을 획득한 뒤 작업 실행
+     * @param targetShard 대상 샤드 키
+     * @param task        실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T execute(String targetShard, Supplier<T> task) {
+        Semaphore permits = shardPermits.computeIfAbsent(targetShard,
+                shard -> new Semaphore(Math.max(1, migrationProperties.getShardConcurrency(shard)), true));
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MigrationException("샤드 " + targetShard + " 처리 허용량 대기 중 인터럽트 발생", e);
+        }
+
+        try {
+            log.trace("샤드 {} 허용량 획득 (남은 허용량: {})", targetShard, permits.availablePermits());
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
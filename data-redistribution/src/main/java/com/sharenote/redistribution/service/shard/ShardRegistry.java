@@ -0,0 +1,120 @@
+package com.sharenote.redistribution.service.shard;
+
+import com.sharenote.redistribution.exception.custom.ShardException;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.*;
+
+/**
+ * 데이터소스 레지스트리 (Legacy + 설정의 샤드 목록)
+ * <p>
+ * spring.datasource.shards 항목마다 시작 시 DataSource, JdbcTemplate, TransactionTemplate을 하나씩 만든다.
+ * 샤드 쓰기는 모두 JDBC로 처리하므로 샤드를 추가할 때 설정 항목만 추가하면 되고 샤드별 클래스는 필요 없다.
+ * Legacy는 JPA 저장소와 같은 트랜잭션에 참여하도록 legacyTransactionManager를 그대로 사용한다.
+ * 키 순서는 Legacy → 설정 순서이며, MODULO 배치(ShardService)는 이 순서를 사용한다.
+ */
+@Slf4j
+public class ShardRegistry {
+    public static final String LEGACY_KEY = "legacy";
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public ShardRegistry(DataSource legacyDataSource,
+                         PlatformTransactionManager legacyTransactionManager,
+                         Map<String, DataSource> shardDataSources) {
+        entries.put(LEGACY_KEY, new Entry(legacyDataSource, legacyTransactionManager, false));
+        shardDataSources.forEach((shardKey, dataSource) -> {
+            if (LEGACY_KEY.equals(shardKey)) {
+                throw new ShardException("샤드 키로 legacy를 사용할 수 없습니다.");
+            }
+            entries.put(shardKey, new Entry(dataSource, new DataSourceTransactionManager(dataSource), true));
+        });
+        log.info("샤드 레지스트리 초기화 - 데이터소스: {}", entries.keySet());
+    }
+
+    /**
+     * Legacy를 포함한 모든 데이터소스 키 (Legacy → 설정 순서)
+     */
+    public List<String> getDataSourceKeys() {
+        return List.copyOf(entries.keySet());
+    }
+
+    /**
+     * Legacy를 제외한 샤드 키
+     */
+    public List<String> getShardKeys() {
+        return entries.keySet().stream().filter(key -> !LEGACY_KEY.equals(key)).toList();
+    }
+
+    public boolean isShard(String dataSourceKey) {
+        return dataSourceKey != null && !LEGACY_KEY.equals(dataSourceKey) && entries.containsKey(dataSourceKey);
+    }
+
+    public DataSource getDataSource(String dataSourceKey) {
+        return entry(dataSourceKey).dataSource;
+    }
+
+    public Collection<DataSource> getDataSources() {
+        return entries.values().stream().map(entry -> entry.dataSource).toList();
+    }
+
+    /**
+     * 데이터소스의 JdbcTemplate (해당 데이터소스의 트랜잭션이 열려 있으면 참여)
+     */
+    public JdbcTemplate jdbc(String dataSourceKey) {
+        return entry(dataSourceKey).jdbcTemplate;
+    }
+
+    /**
+     * 데이터소스의 트랜잭션 템플릿 (기본 전파/격리 수준)
+     */
+    public TransactionTemplate transaction(String dataSourceKey) {
+        return entry(dataSourceKey).transactionTemplate;
+    }
+
+    public PlatformTransactionManager getTransactionManager(String dataSourceKey) {
+        return entry(dataSourceKey).transactionManager;
+    }
+
+    /**
+     * 레지스트리가 만든 샤드 커넥션 풀 종료 (Legacy 데이터소스는 빈으로 관리되므로 제외)
+     */
+    public void close() {
+        entries.forEach((key, entry) -> {
+            if (entry.owned && entry.dataSource instanceof HikariDataSource hikariDataSource) {
+                hikariDataSource.close();
+                log.info("{} DataSource 종료", key);
+            }
+        });
+    }
+
+    private Entry entry(String dataSourceKey) {
+        Entry entry = entries.get(dataSourceKey);
+        if (entry == null) {
+            throw new ShardException("알 수 없는 데이터소스: " + dataSourceKey);
+        }
+        return entry;
+    }
+
+    private static class Entry {
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final PlatformTransactionManager transactionManager;
+        private final TransactionTemplate transactionTemplate;
+        private final boolean owned;
+
+        private Entry(DataSource dataSource, PlatformTransactionManager transactionManager, boolean owned) {
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionManager = transactionManager;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.owned = owned;
+        }
+    }
+}
@@ -1,18 +1,51 @@
 package com.sharenote.redistribution.service.shard;
 
-import com.sharenote.redistribution.config.DatabaseConfig;
+import com.sharenote.redistribution.enums.ShardPlacementStrategy;
 import com.sharenote.redistribution.exception.custom.ShardException;
+import com.sharenote.redistribution.properties.DatabaseProperties;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.sharding.ConsistentHashRing;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.function.Supplier;
 
+/**
+ * 페이지의 대상 샤드 결정
+ * <p>
+ * 기본은 기존 방식(hash % 데이터소스 수, MODULO)으로, 이미 재분배된 데이터의 배치를 그대로 유지한다.
+ * 배치 방식을 바꾸면 기존 샤드 데이터의 대부분이 잘못된 샤드에 있는 것으로 판단되므로 일관된 해시 링은 명시적으로 선택해야 한다.
+ * 일관된 해시 링(CONSISTENT_HASH, share-note-sharding)은 샤드를 추가해도 새 샤드 몫(약 1/N)의 페이지만 옮겨간다.
+ * 노드는 Legacy와 ShardRegistry의 샤드이며 가중치는 spring.datasource.legacy.weight / shards.*.weight를 사용한다.
+ */
 @Slf4j
 @Service
-@Component
 public class ShardService {
+    private final ShardRegistry shardRegistry;
+    private final ShardPlacementStrategy strategy;
+    private final ConsistentHashRing hashRing;
+
+    public ShardService(ShardRegistry shardRegistry,
+                        DatabaseProperties databaseProperties,
+                        MigrationProperties migrationProperties) {
+        this.shardRegistry = shardRegistry;
+        this.strategy = migrationProperties.getPlacement().getStrategy();
+
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put(ShardRegistry.LEGACY_KEY, databaseProperties.getLegacy().getWeight());
+        shardRegistry.getShardKeys().forEach(shardKey ->
+                weights.put(shardKey, databaseProperties.getShards().get(shardKey).getWeight()));
+        try {
+            this.hashRing = new ConsistentHashRing(weights, migrationProperties.getPlacement().getVirtualNodes());
+        } catch (IllegalArgumentException e) {
+            throw new ShardException("샤드 배치 설정이 잘못되었습니다: " + e.getMessage(), e);
+        }
+        log.info("샤드 배치 초기화 - 방식: {}, 가중치: {}, 가상 노드: {}",
+                strategy, weights, hashRing.getVirtualNodes());
+    }
 
     /**
      * 페이지 ID를 기반으로 샤드를 결정하는 메서드
@@ -24,26 +57,22 @@ public class ShardService {
             throw new ShardException("페이지 ID는 null이 될 수 없습니다.");
         }
 
-        // UUID의 hashCode를 사용하여 샤드 결정
-        int hash = Math.abs(pageId.hashCode());
-        int shardIndex = hash % 3; // 3개의 샤드로 분산
-
-        String targetShard;
-        switch (shardIndex) {
-            case 0:
-                targetShard = "legacy";
-                break;
-            case 1:
-                targetShard = "shard1";
-                break;
-            case 2:
-                targetShard = "shard2";
-                break;
-            default:
-                targetShard = "legacy";
-        }
+        String targetShard = strategy == ShardPlacementStrategy.MODULO
+                ? locateByModulo(pageId)
+                : hashRing.locate(pageId);
 
         log.debug("페이지 ID {} -> 대상 샤드: {}",pageId,targetShard);
         return targetShard;
     }
+
+    /**
+     * 기본 배치 방식 - Legacy → 설정 순서의 목록에서 hashCode % 데이터소스 수
+     */
+    private String locateByModulo(UUID pageId) {
+        List<String> targets = shardRegistry.getDataSourceKeys();
+        int shardIndex = Math.abs(pageId.hashCode()) % targets.size();
+
+        // Integer.MIN_VALUE는 절댓값이 음수이므로 기존과 같이 Legacy로 보낸다.
+        return shardIndex >= 0 ? targets.get(shardIndex) : ShardRegistry.LEGACY_KEY;
+    }
 }
@@ -0,0 +1,140 @@
+package com.sharenote.redistribution.scheduler;
+
+import com.sharenote.redistribution.config.MigrationExecutorConfig;
+import com.sharenote.redistribution.properties.DatabaseProperties;
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.properties.RedissonProperties;
+import com.sharenote.redistribution.service.lock.PartitionLeaseService;
+import com.sharenote.redistribution.service.lock.RedisHealthMonitor;
+import com.sharenote.redistribution.service.migration.MigrationProgressService;
+import com.sharenote.redistribution.service.migration.MigrationService;
+import com.sharenote.redistribution.service.migration.MigrationTransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisNodes;
+import org.redisson.api.redisnode.RedisSingle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(classes = {
+        MigrationExecutorConfig.class,
+        MigrationScheduler.class,
+        RedisHealthMonitor.class,
+        MigrationSchedulerTest.TestConfig.class
+})
+@TestPropertySource(properties = "redisson.health.ping-interval=50")
+class MigrationSchedulerTest {
+
+    private static final long MAX_STALENESS = 500;
+
+    private static final CountDownLatch MIGRATION_STARTED = new CountDownLatch(1);
+    private static final CountDownLatch MIGRATION_RELEASED = new CountDownLatch(1);
+
+    @Autowired
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Autowired
+    private RedisSingle redisNodes;
+
+    @Autowired
+    private MigrationService migrationService;
+
+    @AfterEach
+    void tearDown() {
+        MIGRATION_RELEASED.countDown();
+    }
+
+    @Test
+    @DisplayName("마이그레이션 실행 중에도 Redis PING이 계속 실행되어 사용 가능 상태 유지")
+    void ping_Success_ContinuesDuringMigrationRun() throws InterruptedException {
+        assertThat(MIGRATION_STARTED.await(5, TimeUnit.SECONDS)).isTrue();
+        clearInvocations(redisNodes);
+
+        // 마지막 성공 PING 기준 허용 시간보다 오래 실행 중인 상태
+        Thread.sleep(MAX_STALENESS * 3);
+
+        verify(redisNodes, atLeast(5)).pingAll(anyLong(), any(TimeUnit.class));
+        verify(migrationService, times(1)).executeMigration();
+        assertThat(MIGRATION_RELEASED.getCount()).isEqualTo(1);
+        assertThat(redisHealthMonitor.isAvailable()).isTrue();
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        MigrationProperties migrationProperties() {
+            return new MigrationProperties();
+        }
+
+        @Bean
+        DatabaseProperties databaseProperties() {
+            return new DatabaseProperties();
+        }
+
+        @Bean
+        RedissonProperties redissonProperties() {
+            RedissonProperties properties = new RedissonProperties();
+            properties.getHealth().setPingTimeout(100);
+            properties.getHealth().setMaxStaleness(MAX_STALENESS);
+            return properties;
+        }
+
+        @Bean
+        RedisSingle redisNodes() {
+            RedisSingle redisNodes = mock(RedisSingle.class);
+            when(redisNodes.pingAll(anyLong(), any(TimeUnit.class))).thenReturn(true);
+            return redisNodes;
+        }
+
+        @Bean
+        RedissonClient redissonClient(RedisSingle redisNodes) {
+            RedissonClient redissonClient = mock(RedissonClient.class);
+            when(redissonClient.getRedisNodes(RedisNodes.SINGLE)).thenReturn(redisNodes);
+            return redissonClient;
+        }
+
+        @Bean
+        MigrationService migrationService() throws InterruptedException {
+            // 스케줄된 실행이 테스트가 끝날 때까지 반환하지 않는 긴 마이그레이션
+            MigrationService migrationService = mock(MigrationService.class);
+            doAnswer(invocation -> {
+                MIGRATION_STARTED.countDown();
+                MIGRATION_RELEASED.await(10, TimeUnit.SECONDS);
+                return null;
+            }).when(migrationService).executeMigration();
+            return migrationService;
+        }
+
+        @Bean
+        MigrationProgressService migrationProgressService() {
+            return mock(MigrationProgressService.class);
+        }
+
+        @Bean
+        MigrationTransactionService migrationTransactionService() {
+            return mock(MigrationTransactionService.class);
+        }
+
+        @Bean
+        PartitionLeaseService partitionLeaseService() {
+            PartitionLeaseService partitionLeaseService = mock(PartitionLeaseService.class);
+            when(partitionLeaseService.getOwnedPartitions()).thenReturn(Set.of(0));
+            return partitionLeaseService;
+        }
+    }
+}
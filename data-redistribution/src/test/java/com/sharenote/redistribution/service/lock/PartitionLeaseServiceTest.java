@@ -0,0 +1,170 @@
+package com.sharenote.redistribution.service.lock;
+
+import com.sharenote.redistribution.properties.MigrationProperties;
+import com.sharenote.redistribution.properties.RedissonProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PartitionLeaseServiceTest {
+
+    private static final int PARTITION_COUNT = 16;
+    private static final long LEASE_TTL = 1000;
+
+    // 임대 키/소유자 기록을 흉내내는 Redis (임대 만료는 leases에서 키를 지워 재현)
+    private final Map<String, String> leases = new ConcurrentHashMap<>();
+    private final Map<String, String> owners = new ConcurrentHashMap<>();
+    private final AtomicLong liveInstances = new AtomicLong(1);
+    private final AtomicBoolean redisDown = new AtomicBoolean(false);
+
+    private MigrationProperties migrationProperties;
+    private RedissonProperties redissonProperties;
+    private RedissonClient redissonClient;
+
+    @BeforeEach
+    void setUp() {
+        migrationProperties = new MigrationProperties();
+        migrationProperties.getPartition().setCount(PARTITION_COUNT);
+        migrationProperties.getPartition().setLeaseTtl(LEASE_TTL);
+
+        redissonProperties = new RedissonProperties();
+        redissonProperties.getLock().setKeyPrefix("test:");
+        redissonProperties.getLock().setFallbackEnabled(false);
+
+        RScript script = mock(RScript.class);
+        when(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    if (redisDown.get()) {
+                        throw new RedisConnectionException("connection refused");
+                    }
+                    String lua = invocation.getArgument(1);
+                    List<Object> keys = invocation.getArgument(3);
+                    Object[] args = invocation.getArguments();
+                    String instanceId = String.valueOf(args[4]);
+                    return evaluate(lua, keys, instanceId);
+                });
+
+        redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+    }
+
+    @Test
+    @DisplayName("살아있는 인스턴스 수로 나눈 균등 몫만 임대")
+    void claimPartitions_Success_FairShare() {
+        liveInstances.set(3);
+        PartitionLeaseService first = newService();
+        PartitionLeaseService second = newService();
+        PartitionLeaseService third = newService();
+
+        first.claimPartitions();
+        second.claimPartitions();
+        third.claimPartitions();
+
+        assertThat(first.getOwnedPartitions()).hasSize(6);
+        assertThat(second.getOwnedPartitions()).hasSize(6);
+        assertThat(third.getOwnedPartitions()).hasSize(4);
+        assertThat(first.getOwnedPartitions()).doesNotContainAnyElementsOf(second.getOwnedPartitions());
+    }
+
+    @Test
+    @DisplayName("인스턴스가 늘어나면 배치 사이에 초과 파티션을 반납하고 새 인스턴스가 가져감")
+    void claimPartitions_Success_ReleasesExcessWhenInstanceJoins() {
+        PartitionLeaseService first = newService();
+        first.claimPartitions();
+        assertThat(first.getOwnedPartitions()).hasSize(PARTITION_COUNT);
+
+        liveInstances.set(2);
+        PartitionLeaseService second = newService();
+        second.claimPartitions();
+        assertThat(second.getOwnedPartitions()).isEmpty();
+
+        first.claimPartitions();
+        second.claimPartitions();
+
+        assertThat(first.getOwnedPartitions()).hasSize(PARTITION_COUNT / 2);
+        assertThat(second.getOwnedPartitions()).hasSize(PARTITION_COUNT / 2);
+        // 반납은 정상 종료이므로 새 소유자는 바로 재설정할 수 있다.
+        assertThat(second.takeResettablePartitions()).isEqualTo(second.getOwnedPartitions());
+    }
+
+    @Test
+    @DisplayName("반납된 파티션은 바로, 만료로 넘어온 파티션은 유예 시간 뒤에 재설정 가능")
+    void takeResettablePartitions_Success_DefersExpiredHandoff() throws InterruptedException {
+        PartitionLeaseService previousOwner = newService();
+        previousOwner.claimPartitions();
+        assertThat(previousOwner.takeResettablePartitions()).hasSize(PARTITION_COUNT);
+
+        // 하트비트 없이 Redis 키만 만료
+        leases.clear();
+
+        PartitionLeaseService next = newService();
+        next.claimPartitions();
+        assertThat(next.getOwnedPartitions()).hasSize(PARTITION_COUNT);
+        assertThat(next.takeResettablePartitions()).isEmpty();
+
+        // 유예 시간 동안 하트비트로 임대를 유지
+        Thread.sleep(LEASE_TTL / 2);
+        next.heartbeat();
+        Thread.sleep(LEASE_TTL / 2 + 50);
+
+        assertThat(next.takeResettablePartitions()).hasSize(PARTITION_COUNT);
+        assertThat(next.takeResettablePartitions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임대 시간 동안 갱신하지 못하면 Redis 키 만료 전에 스스로 보유 중단")
+    void heartbeat_Success_DropsLeaseNotRenewedWithinTtl() throws InterruptedException {
+        PartitionLeaseService service = newService();
+        service.claimPartitions();
+
+        redisDown.set(true);
+        service.heartbeat();
+        assertThat(service.getOwnedPartitions()).hasSize(PARTITION_COUNT);
+
+        Thread.sleep(LEASE_TTL + 50);
+
+        assertThat(service.getOwnedPartitions()).isEmpty();
+        service.heartbeat();
+        redisDown.set(false);
+        assertThat(service.getOwnedPartitions()).isEmpty();
+    }
+
+    private PartitionLeaseService newService() {
+        return new PartitionLeaseService(redissonClient, redissonProperties, migrationProperties);
+    }
+
+    private Object evaluate(String lua, List<Object> keys, String instanceId) {
+        String leaseKey = String.valueOf(keys.get(0));
+        if (lua.contains("zcard")) {
+            return liveInstances.get();
+        }
+        if (lua.contains("'NX'")) {
+            if (leases.putIfAbsent(leaseKey, instanceId) != null) {
+                return null;
+            }
+            String previous = owners.put(String.valueOf(keys.get(1)), instanceId);
+            return previous != null ? previous : "";
+        }
+        if (lua.contains("pexpire")) {
+            return Objects.equals(leases.get(leaseKey), instanceId) ? 1L : 0L;
+        }
+        owners.remove(String.valueOf(keys.get(1)), instanceId);
+        return leases.remove(leaseKey, instanceId) ? 1L : 0L;
+    }
+}
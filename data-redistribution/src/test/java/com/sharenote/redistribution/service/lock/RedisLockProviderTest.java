@@ -0,0 +1,93 @@
+package com.sharenote.redistribution.service.lock;
+
+import com.sharenote.redistribution.exception.custom.RedisConnectionException;
+import com.sharenote.redistribution.properties.RedissonProperties;
+import com.sharenote.redistribution.service.migration.MigrationMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisLockProviderTest {
+
+    private RedissonClient redissonClient;
+    private RedisHealthMonitor redisHealthMonitor;
+    private RLock lock;
+    private RScript script;
+    private RedisLockProvider redisLockProvider;
+
+    @BeforeEach
+    void setUp() {
+        RedissonProperties redissonProperties = new RedissonProperties();
+        redissonProperties.getLock().setKeyPrefix("test:");
+
+        lock = mock(RLock.class);
+        script = mock(RScript.class);
+        redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        when(redissonClient.getId()).thenReturn("client");
+
+        redisHealthMonitor = mock(RedisHealthMonitor.class);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+
+        redisLockProvider = new RedisLockProvider(
+                redissonClient, redissonProperties, mock(MigrationMetrics.class), redisHealthMonitor);
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 연결 오류는 Redis 오류로 분류하지 않고 그대로 전달")
+    void executeWithLock_Fail_TaskExceptionPropagatesUnchanged() throws InterruptedException {
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        CannotGetJdbcConnectionException taskFailure =
+                new CannotGetJdbcConnectionException("Connection is not available, request timed out");
+
+        assertThatThrownBy(() -> redisLockProvider.executeWithLock("page", 1, 10, () -> {
+            throw taskFailure;
+        })).isSameAs(taskFailure);
+
+        verify(redisHealthMonitor, never()).reportFailure(any());
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("락 획득 중 Redis 오류는 RedisConnectionException으로 변환하고 상태 감시기에 보고")
+    void executeWithLock_Fail_AcquireRedisErrorReported() throws InterruptedException {
+        RedisTimeoutException redisFailure = new RedisTimeoutException("Redis server response timeout");
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenThrow(redisFailure);
+
+        assertThatThrownBy(() -> redisLockProvider.executeWithLock("page", 1, 10, () -> "done"))
+                .isInstanceOf(RedisConnectionException.class)
+                .hasCause(redisFailure);
+
+        verify(redisHealthMonitor).reportFailure(redisFailure);
+    }
+
+    @Test
+    @DisplayName("일괄 락 작업에서 발생한 예외는 그대로 전달하고 락은 해제")
+    void executeWithBatchLock_Fail_TaskExceptionPropagatesUnchanged() {
+        when(script.eval(any(RScript.Mode.class), anyString(), eq(RScript.ReturnType.MULTI), anyList(), any(Object[].class)))
+                .thenReturn(List.of("test:page"));
+        IllegalStateException taskFailure = new IllegalStateException("COPY failed: connection reset");
+
+        assertThatThrownBy(() -> redisLockProvider.executeWithBatchLock(List.of("page"), 1, 10, true, acquired -> {
+            throw taskFailure;
+        })).isSameAs(taskFailure);
+
+        verify(redisHealthMonitor, never()).reportFailure(any());
+        verify(script).eval(any(RScript.Mode.class), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(Object[].class));
+    }
+}
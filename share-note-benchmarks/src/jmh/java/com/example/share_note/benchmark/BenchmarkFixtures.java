@@ -0,0 +1,79 @@
+package com.example.share_note.benchmark;
+
+import com.example.share_note.domain.Block;
+import com.example.share_note.domain.Page;
+import com.example.share_note.dto.CustomUserDetails;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크 공용 테스트 데이터
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "U29tZUJhc2U2NEVuY29kZWRSYW5kb21LZXlGb3JKV1Q=";
+
+    private BenchmarkFixtures() {
+    }
+
+    static Authentication authentication() {
+        CustomUserDetails userDetails = new CustomUserDetails(
+                UUID.randomUUID(),
+                "benchmark-user",
+                null,
+                "ROLE_USER",
+                "benchmark@example.com"
+        );
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    static Page page() {
+        UUID userId = UUID.randomUUID();
+        return Page.builder()
+                .id(UUID.randomUUID())
+                .workspaceId(UUID.randomUUID())
+                .parentPageId(UUID.randomUUID())
+                .title("Benchmark Page")
+                .icon("📄")
+                .cover("https://example.com/cover.png")
+                .properties("{\"tags\":[\"benchmark\"]}")
+                .isPublic(false)
+                .isArchived(false)
+                .isTemplate(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .createdBy(userId)
+                .lastEditedBy(userId)
+                .build();
+    }
+
+    static Block block(UUID pageId, int position) {
+        UUID userId = UUID.randomUUID();
+        return Block.builder()
+                .id(UUID.randomUUID())
+                .pageId(pageId)
+                .type("paragraph")
+                .content("{\"text\":\"benchmark block content " + position + "\"}")
+                .position(position)
+                .isArchived(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .createdBy(userId)
+                .lastEditedBy(userId)
+                .build();
+    }
+
+    static List<Block> blocks(int size) {
+        UUID pageId = UUID.randomUUID();
+        List<Block> blocks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            blocks.add(block(pageId, i));
+        }
+        return blocks;
+    }
+}
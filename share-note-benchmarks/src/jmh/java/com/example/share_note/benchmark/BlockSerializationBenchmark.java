@@ -0,0 +1,47 @@
+package com.example.share_note.benchmark;
+
+import com.example.share_note.domain.Block;
+import com.example.share_note.dto.block.BlockResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * 대용량 블록 목록 조회 응답의 매핑 + Jackson 직렬화 비용 측정
+ */
+@State(Scope.Benchmark)
+public class BlockSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int blockCount;
+
+    private ObjectMapper objectMapper;
+    private List<Block> blocks;
+    private List<BlockResponseDto> blockResponses;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 설정과 동일하게 JavaTimeModule 등록, 날짜는 ISO 문자열로 직렬화
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        blocks = BenchmarkFixtures.blocks(blockCount);
+        blockResponses = blocks.stream().map(BlockResponseDto::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(blockResponses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(blocks.stream().map(BlockResponseDto::from).toList());
+    }
+}
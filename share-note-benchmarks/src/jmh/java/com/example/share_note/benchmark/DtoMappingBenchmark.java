@@ -0,0 +1,35 @@
+package com.example.share_note.benchmark;
+
+import com.example.share_note.domain.Block;
+import com.example.share_note.domain.Page;
+import com.example.share_note.dto.block.BlockResponseDto;
+import com.example.share_note.dto.page.PageResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용 측정
+ */
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Page page;
+    private Block block;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.page();
+        block = BenchmarkFixtures.block(UUID.randomUUID(), 0);
+    }
+
+    @Benchmark
+    public PageResponseDto pageResponseDto() {
+        return PageResponseDto.from(page);
+    }
+
+    @Benchmark
+    public BlockResponseDto blockResponseDto() {
+        return BlockResponseDto.from(block);
+    }
+}
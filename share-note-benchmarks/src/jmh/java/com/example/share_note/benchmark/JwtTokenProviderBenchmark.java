@@ -0,0 +1,43 @@
+package com.example.share_note.benchmark;
+
+import com.example.share_note.security.JwtTokenProvider;
+import com.example.share_note.util.UuidUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 요청마다 수행되는 JWT 발급/검증 비용 측정
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(BenchmarkFixtures.JWT_SECRET, 30, 1440, new UuidUtils());
+        authentication = BenchmarkFixtures.authentication();
+        accessToken = jwtTokenProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    /**
+     * JwtAuthenticationWebFilter 경로와 동일하게 검증 후 Authentication 복원
+     */
+    @Benchmark
+    public Authentication validateAndGetAuthentication() {
+        jwtTokenProvider.validateToken(accessToken);
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+}
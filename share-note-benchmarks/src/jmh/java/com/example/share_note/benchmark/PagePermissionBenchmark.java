@@ -0,0 +1,28 @@
+package com.example.share_note.benchmark;
+
+import com.example.share_note.enums.PagePermissionType;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 서비스 계층의 권한 문자열 파싱 및 권한 레벨 비교 비용 측정
+ */
+@State(Scope.Benchmark)
+public class PagePermissionBenchmark {
+
+    @Param({"READ", "EDIT", "FULL_ACCESS"})
+    private String permission;
+
+    @Benchmark
+    public PagePermissionType valueOf() {
+        return PagePermissionType.valueOf(permission);
+    }
+
+    /**
+     * PageServiceImpl/BlockServiceImpl의 편집 권한 검사와 동일한 비교
+     */
+    @Benchmark
+    public boolean hasEditPermission() {
+        PagePermissionType permissionType = PagePermissionType.valueOf(permission);
+        return permissionType.getLevel() >= PagePermissionType.EDIT.getLevel();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.share_note.benchmark;
+
+import com.example.share_note.util.UuidUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+
+/**
+ * 경로 변수/JWT 클레임의 UUID 변환 및 ID 생성 비용 측정
+ */
+@State(Scope.Benchmark)
+public class UuidUtilsBenchmark {
+
+    private UuidUtils uuidUtils;
+    private String uuidString;
+    private UUID uuid;
+
+    @Setup
+    public void setUp() {
+        uuidUtils = new UuidUtils();
+        uuid = UUID.randomUUID();
+        uuidString = uuid.toString();
+    }
+
+    @Benchmark
+    public UUID fromString() {
+        return uuidUtils.fromString(uuidString);
+    }
+
+    @Benchmark
+    public String fromUUID() {
+        return uuidUtils.fromUUID(uuid);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generate() {
+        return uuidUtils.generate();
+    }
+}
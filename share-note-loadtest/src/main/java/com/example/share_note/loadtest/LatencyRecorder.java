@@ -0,0 +1,107 @@
+package com.example.share_note.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 기록
+ * <p>
+ * 지연 시간은 요청이 "발생했어야 하는 시각"부터 응답 완료까지로 측정하여
+ * 서버가 밀려 발송이 늦어진 구간도 결과에 포함한다(coordinated omission 보정).
+ */
+@Slf4j
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    public void record(String endpoint, long intendedStartNanos, int statusCode) {
+        long latency = Math.min(System.nanoTime() - intendedStartNanos, HIGHEST_TRACKABLE_NANOS);
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+        endpointStats.recorder.recordValue(Math.max(latency, 1));
+        endpointStats.statusCounts.computeIfAbsent(statusCode, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 동시 요청 상한 초과로 발송하지 못한 요청
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    public void printReport(Duration measured) {
+        double seconds = measured.toMillis() / 1000.0;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%n%-32s %8s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors"));
+
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            long errors = entry.getValue().errorCount();
+            totalCount += histogram.getTotalCount();
+            totalErrors += errors;
+
+            report.append(String.format("%-32s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    errors));
+            if (errors > 0) {
+                report.append(String.format("%-32s status: %s%n", "", entry.getValue().statusSummary()));
+            }
+        }
+
+        report.append(String.format("%n총 요청: %d, 처리량: %.1f req/s, 오류: %d, 발송 실패(동시 요청 상한): %d%n",
+                totalCount, totalCount / seconds, totalErrors, dropped.sum()));
+        log.info("부하 테스트 결과 (측정 구간 {}초){}", measured.toSeconds(), report);
+    }
+
+    /**
+     * 워밍업 구간 기록 폐기
+     */
+    public void reset() {
+        stats.values().forEach(endpointStats -> {
+            endpointStats.recorder.reset();
+            endpointStats.statusCounts.clear();
+        });
+        dropped.reset();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class EndpointStats {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+        private long errorCount() {
+            return statusCounts.entrySet().stream()
+                    .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 400)
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+        }
+
+        private String statusSummary() {
+            Map<Integer, Long> summary = new TreeMap<>();
+            statusCounts.forEach((status, count) -> summary.put(status, count.sum()));
+            return summary.toString();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.share_note.loadtest;
+
+/**
+ * 부하 테스트에서 발생시키는 요청 종류
+ */
+public enum LoadOperation {
+    READ_PAGE,
+    LIST_BLOCKS,
+    UPDATE_PAGE,
+    UPDATE_BLOCK,
+    CREATE_BLOCK,
+    CREATE_PAGE,
+    // 보관 후 바로 복원하여 데이터셋 상태를 유지
+    ARCHIVE_PAGE
+}
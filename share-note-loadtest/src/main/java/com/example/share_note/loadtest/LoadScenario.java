@@ -0,0 +1,158 @@
+package com.example.share_note.loadtest;
+
+import com.example.share_note.loadtest.SyntheticDataset.UserFixture;
+import com.example.share_note.loadtest.SyntheticDataset.WorkspaceFixture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 요청 종류별 실제 WebFlux 엔드포인트 호출 구성
+ * <p>
+ * 워크스페이스는 Zipf 분포로 선택하여 일부 워크스페이스에 트래픽이 몰리도록 하고,
+ * 사용자와 페이지는 해당 요청에 필요한 권한을 가진 조합 중에서 고른다.
+ */
+@RequiredArgsConstructor
+public class LoadScenario {
+
+    private final WebClient webClient;
+    private final SyntheticDataset dataset;
+    private final Function<UserFixture, String> accessTokens;
+    private final LatencyRecorder latencyRecorder;
+    private final double[] workspaceCumulativeWeights;
+
+    public static LoadScenario create(WebClient webClient, SyntheticDataset dataset,
+                                      Function<UserFixture, String> accessTokens,
+                                      LatencyRecorder latencyRecorder, double workspaceHotness) {
+        int size = dataset.getWorkspaces().size();
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / Math.pow(i + 1, workspaceHotness);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return new LoadScenario(webClient, dataset, accessTokens, latencyRecorder, cumulative);
+    }
+
+    /**
+     * 요청 하나를 구성하여 반환 (구독 시점에 발송)
+     *
+     * @param operation          요청 종류
+     * @param intendedStartNanos 도착 모델상 요청이 발생해야 하는 시각
+     */
+    public Mono<Void> execute(LoadOperation operation, long intendedStartNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        WorkspaceFixture workspace = pickWorkspace(random);
+        UserFixture owner = workspace.getOwner();
+        String pagesUri = "/api/workspaces/" + workspace.getWorkspaceId() + "/pages";
+
+        switch (operation) {
+            case READ_PAGE -> {
+                UserFixture reader = pickUser(workspace, random, false);
+                UUID pageId = pick(reader.getReadablePages(), random);
+                return call("GET /pages/{pageId}", HttpMethod.GET, pagesUri + "/" + pageId, null, reader, intendedStartNanos);
+            }
+            case LIST_BLOCKS -> {
+                UserFixture reader = pickUser(workspace, random, false);
+                UUID pageId = pick(reader.getReadablePages(), random);
+                return call("GET /blocks", HttpMethod.GET, pagesUri + "/" + pageId + "/blocks", null, reader, intendedStartNanos);
+            }
+            case UPDATE_PAGE -> {
+                UserFixture editor = pickUser(workspace, random, true);
+                UUID pageId = pick(editor.getEditablePages(), random);
+                return call("PUT /pages/{pageId}", HttpMethod.PUT, pagesUri + "/" + pageId,
+                        Map.of("title", "edited " + random.nextInt(1_000_000)), editor, intendedStartNanos);
+            }
+            case UPDATE_BLOCK -> {
+                UserFixture editor = pickUser(workspace, random, true);
+                UUID pageId = pick(editor.getEditablePages(), random);
+                UUID blockId = pick(workspace.getBlockIdsByPage().get(pageId), random);
+                return call("PUT /blocks/{blockId}", HttpMethod.PUT, pagesUri + "/" + pageId + "/blocks/" + blockId,
+                        Map.of("content", blockContent("edited " + random.nextInt(1_000_000))), editor, intendedStartNanos);
+            }
+            case CREATE_BLOCK -> {
+                UserFixture editor = pickUser(workspace, random, true);
+                UUID pageId = pick(editor.getEditablePages(), random);
+                return call("POST /blocks", HttpMethod.POST, pagesUri + "/" + pageId + "/blocks",
+                        Map.of("type", "paragraph",
+                                "content", blockContent("new block"),
+                                "position", random.nextInt(100)),
+                        editor, intendedStartNanos);
+            }
+            case CREATE_PAGE -> {
+                UUID parentPageId = pick(owner.getEditablePages(), random);
+                return call("POST /pages", HttpMethod.POST, pagesUri,
+                        Map.of("parentPageId", parentPageId.toString(), "title", "new page"), owner, intendedStartNanos);
+            }
+            case ARCHIVE_PAGE -> {
+                UUID pageId = pick(owner.getEditablePages(), random);
+                String pageUri = pagesUri + "/" + pageId;
+                return call("PUT /pages/{pageId}/archive", HttpMethod.PUT, pageUri + "/archive", null, owner, intendedStartNanos)
+                        .then(Mono.defer(() -> call("PUT /pages/{pageId}/restore", HttpMethod.PUT, pageUri + "/restore",
+                                null, owner, System.nanoTime())));
+            }
+            default -> throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+
+    private Mono<Void> call(String endpoint, HttpMethod method, String uri, Object body,
+                            UserFixture user, long intendedStartNanos) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessTokens.apply(user));
+        WebClient.RequestHeadersSpec<?> spec = body != null ? request.bodyValue(body) : request;
+
+        return spec.exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                .onErrorReturn(599)
+                .doOnNext(status -> latencyRecorder.record(endpoint, intendedStartNanos, status))
+                .then();
+    }
+
+    private WorkspaceFixture pickWorkspace(ThreadLocalRandom random) {
+        double sample = random.nextDouble();
+        for (int i = 0; i < workspaceCumulativeWeights.length; i++) {
+            if (sample <= workspaceCumulativeWeights[i]) {
+                return dataset.getWorkspaces().get(i);
+            }
+        }
+        return dataset.getWorkspaces().get(workspaceCumulativeWeights.length - 1);
+    }
+
+    /**
+     * 필요한 권한이 있는 페이지를 하나 이상 가진 사용자 선택 (없으면 소유자)
+     */
+    private UserFixture pickUser(WorkspaceFixture workspace, ThreadLocalRandom random, boolean needsEdit) {
+        List<UserFixture> members = workspace.getMembers();
+        if (!members.isEmpty()) {
+            UserFixture member = members.get(random.nextInt(members.size()));
+            List<UUID> pages = needsEdit ? member.getEditablePages() : member.getReadablePages();
+            if (!pages.isEmpty() && random.nextBoolean()) {
+                return member;
+            }
+        }
+        return workspace.getOwner();
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * 블록 콘텐츠 검증 트리거(validate_block_content)를 통과하는 리치 텍스트 콘텐츠
+     * 생성하는 모든 블록 타입에 쓰도록 to_do에 필요한 checked도 함께 넣는다.
+     */
+    static String blockContent(String text) {
+        return "{\"rich_text\":[{\"type\":\"text\",\"plain_text\":\"" + text + "\"}],\"checked\":false}";
+    }
+}
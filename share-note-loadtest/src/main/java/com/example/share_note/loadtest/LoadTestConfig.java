@@ -0,0 +1,98 @@
+package com.example.share_note.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * <p>
+ * 모든 값은 -Dloadtest.* 시스템 프로퍼티로 덮어쓸 수 있다.
+ * - 데이터 분포: 워크스페이스 수, 워크스페이스당 멤버/페이지 수, 페이지당 블록 수 (로그 정규 분포로 편중)
+ * - 부하 모델: 초당 도착률(Poisson), 워밍업/측정 시간, 요청 종류별 비율
+ */
+@Getter
+@Builder
+public class LoadTestConfig {
+
+    private final String postgresImage;
+    private final long seed;
+
+    private final int workspaces;
+    private final int membersPerWorkspace;
+    private final int pagesPerWorkspace;
+    private final double pageSkew;
+    private final int blocksPerPage;
+    private final double blockSkew;
+    private final int blockContentBytes;
+    private final double memberPageCoverage;
+    private final double memberEditRatio;
+    private final double workspaceHotness;
+
+    private final double arrivalRate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final int r2dbcPoolSize;
+    private final Map<LoadOperation, Integer> mix;
+
+    public static LoadTestConfig fromSystemProperties() {
+        return LoadTestConfig.builder()
+                .postgresImage(property("postgres-image", "postgres:16-alpine"))
+                .seed(Long.parseLong(property("seed", "42")))
+                .workspaces(intProperty("workspaces", 20))
+                .membersPerWorkspace(intProperty("members-per-workspace", 5))
+                .pagesPerWorkspace(intProperty("pages-per-workspace", 200))
+                .pageSkew(doubleProperty("page-skew", 1.0))
+                .blocksPerPage(intProperty("blocks-per-page", 30))
+                .blockSkew(doubleProperty("block-skew", 0.8))
+                .blockContentBytes(intProperty("block-content-bytes", 200))
+                .memberPageCoverage(doubleProperty("member-page-coverage", 0.5))
+                .memberEditRatio(doubleProperty("member-edit-ratio", 0.6))
+                .workspaceHotness(doubleProperty("workspace-hotness", 1.1))
+                .arrivalRate(doubleProperty("arrival-rate", 200))
+                .warmup(Duration.ofSeconds(intProperty("warmup-seconds", 15)))
+                .duration(Duration.ofSeconds(intProperty("duration-seconds", 60)))
+                .maxInFlight(intProperty("max-in-flight", 2000))
+                .r2dbcPoolSize(intProperty("r2dbc-pool-size", 20))
+                .mix(parseMix(property("mix",
+                        "READ_PAGE:30,LIST_BLOCKS:35,UPDATE_PAGE:5,UPDATE_BLOCK:15,CREATE_BLOCK:8,CREATE_PAGE:4,ARCHIVE_PAGE:3")))
+                .build();
+    }
+
+    /**
+     * "READ_PAGE:30,LIST_BLOCKS:35" 형식의 요청 비율 파싱
+     */
+    private static Map<LoadOperation, Integer> parseMix(String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(LoadOperation.valueOf(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one positive weight");
+        }
+        return mix;
+    }
+
+    private static String property(String key, String defaultValue) {
+        return System.getProperty("loadtest." + key, defaultValue);
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(property(key, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        return Double.parseDouble(property(key, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.share_note.loadtest;
+
+import com.example.share_note.ShareNoteApplication;
+import com.example.share_note.dto.CustomUserDetails;
+import com.example.share_note.loadtest.SyntheticDataset.UserFixture;
+import com.example.share_note.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트 진입점
+ * <p>
+ * 1. Testcontainers로 PostgreSQL 기동 및 스키마 적용
+ * 2. 합성 워크스페이스/페이지/블록/권한 데이터 시딩
+ * 3. 같은 JVM에서 share-note-service 기동 (임의 포트)
+ * 4. 사용자별 Access Token 발급 후 개방형 부하 발생 및 결과 출력
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(config.getPostgresImage())
+                .withDatabaseName("share_note")
+                .withUsername("postgres")
+                .withPassword("1234")
+                .withCommand("postgres", "-c", "max_connections=200")) {
+            postgres.start();
+
+            SyntheticDataset dataset;
+            try (Connection connection = DriverManager.getConnection(
+                    postgres.getJdbcUrl() + "&reWriteBatchedInserts=true", postgres.getUsername(), postgres.getPassword())) {
+                applySchema(connection);
+                dataset = new SyntheticWorkspaceGenerator(config).generate(connection);
+            }
+
+            try (ConfigurableApplicationContext context = startApplication(config, postgres)) {
+                int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+                JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+
+                Map<UUID, String> tokens = new ConcurrentHashMap<>();
+                LatencyRecorder latencyRecorder = new LatencyRecorder();
+                LoadScenario scenario = LoadScenario.create(
+                        webClient(port, config.getMaxInFlight()),
+                        dataset,
+                        user -> tokens.computeIfAbsent(user.getUserId(), id -> accessToken(jwtTokenProvider, user)),
+                        latencyRecorder,
+                        config.getWorkspaceHotness());
+
+                new OpenModelLoadDriver(config, scenario, latencyRecorder).run();
+            }
+        }
+    }
+
+    private static void applySchema(Connection connection) throws Exception {
+        String schema = new ClassPathResource("loadtest-schema.sql").getContentAsString(StandardCharsets.UTF_8);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(schema);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config, PostgreSQLContainer<?> postgres) {
+        String r2dbcUrl = "r2dbc:postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName();
+
+        return new SpringApplicationBuilder(ShareNoteApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.share_note.loadtest=INFO",
+                        "spring.r2dbc.url=" + r2dbcUrl,
+                        "spring.r2dbc.username=" + postgres.getUsername(),
+                        "spring.r2dbc.password=" + postgres.getPassword(),
+                        "spring.r2dbc.pool.initial-size=" + config.getR2dbcPoolSize(),
+                        "spring.r2dbc.pool.max-size=" + config.getR2dbcPoolSize())
+                .run();
+    }
+
+    private static WebClient webClient(int port, int maxConnections) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("share-note-loadtest")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+    }
+
+    private static String accessToken(JwtTokenProvider jwtTokenProvider, UserFixture user) {
+        CustomUserDetails userDetails = new CustomUserDetails(
+                user.getUserId(), user.getUsername(), null, "ROLE_USER", user.getEmail());
+        return jwtTokenProvider.createAccessToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+}
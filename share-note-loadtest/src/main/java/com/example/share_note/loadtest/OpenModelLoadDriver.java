@@ -0,0 +1,106 @@
+package com.example.share_note.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-model) 부하 발생기
+ * <p>
+ * 응답 완료를 기다리지 않고 Poisson 과정(지수 분포 간격)으로 요청을 발생시킨다.
+ * 서버가 느려져도 도착률이 줄지 않으므로 실제 사용자 트래픽과 같은 방식으로 큐잉 지연이 드러난다.
+ * 1. 워밍업 구간 동안 부하 발생 후 기록 초기화
+ * 2. 측정 구간 동안 부하 발생
+ * 3. 진행 중인 요청이 끝날 때까지 대기 후 결과 출력
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OpenModelLoadDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final LoadScenario scenario;
+    private final LatencyRecorder latencyRecorder;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public void run() {
+        Random random = new Random(config.getSeed());
+        LoadOperation[] operations = operationTable(config.getMix());
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getArrivalRate();
+
+        log.info("워밍업 시작 - 도착률: {} req/s, {}초", config.getArrivalRate(), config.getWarmup().toSeconds());
+        long next = generate(random, operations, meanIntervalNanos, System.nanoTime(), config.getWarmup());
+        latencyRecorder.reset();
+
+        log.info("측정 시작 - {}초", config.getDuration().toSeconds());
+        long measuredStart = System.nanoTime();
+        generate(random, operations, meanIntervalNanos, next, config.getDuration());
+        drain();
+
+        latencyRecorder.printReport(Duration.ofNanos(System.nanoTime() - measuredStart));
+    }
+
+    /**
+     * 지정된 시간 동안 Poisson 도착 간격으로 요청 발송
+     *
+     * @return 다음 요청의 예정 시각
+     */
+    private long generate(Random random, LoadOperation[] operations, double meanIntervalNanos,
+                          long start, Duration duration) {
+        long end = start + duration.toNanos();
+        long next = start;
+
+        while (next < end) {
+            long waitNanos = next - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            if (inFlight.get() >= config.getMaxInFlight()) {
+                latencyRecorder.recordDropped();
+            } else {
+                LoadOperation operation = operations[random.nextInt(operations.length)];
+                inFlight.incrementAndGet();
+                scenario.execute(operation, next)
+                        .doFinally(signal -> inFlight.decrementAndGet())
+                        .subscribe(null, error -> log.warn("요청 실패 - {}: {}", operation, error.getMessage()));
+            }
+
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+        }
+        return next;
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        if (inFlight.get() > 0) {
+            log.warn("진행 중인 요청 {}건이 {}초 안에 끝나지 않았습니다.", inFlight.get(), DRAIN_TIMEOUT.toSeconds());
+        }
+    }
+
+    /**
+     * 비율만큼 요청 종류를 반복 배치한 선택 테이블
+     */
+    private static LoadOperation[] operationTable(Map<LoadOperation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        LoadOperation[] table = new LoadOperation[total];
+        int index = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[index++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+}
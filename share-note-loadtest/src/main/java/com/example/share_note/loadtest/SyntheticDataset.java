@@ -0,0 +1,54 @@
+package com.example.share_note.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 시딩된 데이터의 ID 인덱스
+ * 부하 발생기가 권한이 있는 사용자/페이지/블록 조합을 고르는 데 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SyntheticDataset {
+
+    private final List<WorkspaceFixture> workspaces;
+
+    public long pageCount() {
+        return workspaces.stream().mapToLong(workspace -> workspace.getPageIds().size()).sum();
+    }
+
+    public long blockCount() {
+        return workspaces.stream()
+                .flatMap(workspace -> workspace.getBlockIdsByPage().values().stream())
+                .mapToLong(List::size)
+                .sum();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class WorkspaceFixture {
+        private final UUID workspaceId;
+        private final UserFixture owner;
+        private final List<UserFixture> members = new ArrayList<>();
+        private final List<UUID> pageIds = new ArrayList<>();
+        private final Map<UUID, List<UUID>> blockIdsByPage = new HashMap<>();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class UserFixture {
+        private final UUID userId;
+        private final String username;
+        private final String email;
+        // READ 이상 권한이 있는 페이지
+        private final List<UUID> readablePages = new ArrayList<>();
+        // EDIT 이상 권한이 있는 페이지
+        private final List<UUID> editablePages = new ArrayList<>();
+    }
+}
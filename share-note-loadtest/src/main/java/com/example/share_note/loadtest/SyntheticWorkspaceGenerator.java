@@ -0,0 +1,251 @@
+package com.example.share_note.loadtest;
+
+import com.example.share_note.loadtest.SyntheticDataset.UserFixture;
+import com.example.share_note.loadtest.SyntheticDataset.WorkspaceFixture;
+import com.example.share_note.util.UuidUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 합성 워크스페이스 데이터 생성기
+ * <p>
+ * 1. 워크스페이스마다 소유자 + 멤버 사용자 생성
+ * 2. 페이지 수/블록 수는 로그 정규 분포로 뽑아 일부 워크스페이스/페이지에 데이터가 몰리도록 구성
+ * 3. 소유자는 모든 페이지에 FULL_ACCESS, 멤버는 일부 페이지에 EDIT 또는 READ 권한 부여
+ * 4. 워크스페이스 단위로 JDBC 배치 INSERT 후 커밋
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SyntheticWorkspaceGenerator {
+
+    // 부하 테스트는 JWT를 직접 발급하므로 로그인에 쓰이지 않는 고정 BCrypt 해시
+    private static final String PASSWORD_HASH = "$2a$10$FDp2CJ7TypXuD7OqZdByrOhLLz.xSoJDNYVUUeymNTzTER/dP4k8y";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, username, password, authorities, email, created_at) VALUES (?, ?, ?, 'ROLE_USER', ?, ?)";
+    private static final String INSERT_WORKSPACE =
+            "INSERT INTO workspaces (id, name, description, created_at, updated_at, created_by) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MEMBER =
+            "INSERT INTO workspace_members (id, workspace_id, user_id, role, joined_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_PAGE =
+            "INSERT INTO pages (id, workspace_id, parent_page_id, title, properties, created_at, updated_at, created_by, last_edited_by) " +
+            "VALUES (?, ?, ?, ?, '{}', ?, ?, ?, ?)";
+    private static final String INSERT_PERMISSION =
+            "INSERT INTO page_permissions (id, page_id, user_id, permission, granted_at, granted_by) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BLOCK =
+            "INSERT INTO blocks (id, page_id, type, content, position, created_at, updated_at, created_by, last_edited_by) " +
+            "VALUES (?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?)";
+
+    private static final String[] BLOCK_TYPES = {"paragraph", "heading_1", "heading_2", "bulleted_list_item", "to_do"};
+
+    private final LoadTestConfig config;
+    private final UuidUtils uuidUtils = new UuidUtils();
+
+    public SyntheticDataset generate(Connection connection) throws SQLException {
+        Random random = new Random(config.getSeed());
+        List<WorkspaceFixture> workspaces = new ArrayList<>(config.getWorkspaces());
+        connection.setAutoCommit(false);
+
+        long startedAt = System.currentTimeMillis();
+        for (int w = 0; w < config.getWorkspaces(); w++) {
+            workspaces.add(generateWorkspace(connection, random, w));
+            connection.commit();
+        }
+
+        SyntheticDataset dataset = new SyntheticDataset(workspaces);
+        log.info("합성 데이터 생성 완료 - 워크스페이스: {}, 페이지: {}, 블록: {}, 소요시간: {}ms",
+                workspaces.size(), dataset.pageCount(), dataset.blockCount(), System.currentTimeMillis() - startedAt);
+        return dataset;
+    }
+
+    private WorkspaceFixture generateWorkspace(Connection connection, Random random, int index) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. 사용자 및 워크스페이스
+        UserFixture owner = newUser(index, 0);
+        WorkspaceFixture workspace = new WorkspaceFixture(uuidUtils.generate(), owner);
+        for (int m = 1; m <= config.getMembersPerWorkspace(); m++) {
+            workspace.getMembers().add(newUser(index, m));
+        }
+
+        try (PreparedStatement users = connection.prepareStatement(INSERT_USER)) {
+            addUser(users, owner, now);
+            for (UserFixture member : workspace.getMembers()) {
+                addUser(users, member, now);
+            }
+            users.executeBatch();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_WORKSPACE)) {
+            statement.setObject(1, workspace.getWorkspaceId());
+            statement.setString(2, "loadtest-workspace-" + index);
+            statement.setString(3, "synthetic workspace for load testing");
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            statement.setObject(6, owner.getUserId());
+            statement.executeUpdate();
+        }
+
+        try (PreparedStatement members = connection.prepareStatement(INSERT_MEMBER)) {
+            addMember(members, workspace.getWorkspaceId(), owner.getUserId(), "OWNER", now);
+            for (UserFixture member : workspace.getMembers()) {
+                addMember(members, workspace.getWorkspaceId(), member.getUserId(), "MEMBER", now);
+            }
+            members.executeBatch();
+        }
+
+        // 2. 페이지 트리 (30%는 최상위, 나머지는 앞서 생성된 페이지의 하위)
+        int pageCount = skewedCount(random, config.getPagesPerWorkspace(), config.getPageSkew());
+        try (PreparedStatement pages = connection.prepareStatement(INSERT_PAGE)) {
+            int pending = 0;
+            for (int p = 0; p < pageCount; p++) {
+                UUID pageId = uuidUtils.generate();
+                UUID parentPageId = p == 0 || random.nextDouble() < 0.3
+                        ? null
+                        : workspace.getPageIds().get(random.nextInt(workspace.getPageIds().size()));
+
+                pages.setObject(1, pageId);
+                pages.setObject(2, workspace.getWorkspaceId());
+                pages.setObject(3, parentPageId);
+                pages.setString(4, "loadtest page " + p);
+                pages.setTimestamp(5, now);
+                pages.setTimestamp(6, now);
+                pages.setObject(7, owner.getUserId());
+                pages.setObject(8, owner.getUserId());
+                pages.addBatch();
+                workspace.getPageIds().add(pageId);
+
+                if (++pending == BATCH_SIZE) {
+                    pages.executeBatch();
+                    pending = 0;
+                }
+            }
+            pages.executeBatch();
+        }
+
+        // 3. 페이지 권한
+        try (PreparedStatement permissions = connection.prepareStatement(INSERT_PERMISSION)) {
+            int pending = 0;
+            for (UUID pageId : workspace.getPageIds()) {
+                addPermission(permissions, pageId, owner, "FULL_ACCESS", owner.getUserId(), now);
+                pending++;
+                for (UserFixture member : workspace.getMembers()) {
+                    if (random.nextDouble() >= config.getMemberPageCoverage()) {
+                        continue;
+                    }
+                    String permission = random.nextDouble() < config.getMemberEditRatio() ? "EDIT" : "READ";
+                    addPermission(permissions, pageId, member, permission, owner.getUserId(), now);
+                    pending++;
+                }
+                if (pending >= BATCH_SIZE) {
+                    permissions.executeBatch();
+                    pending = 0;
+                }
+            }
+            permissions.executeBatch();
+        }
+
+        // 4. 블록
+        String content = blockContent(config.getBlockContentBytes());
+        try (PreparedStatement blocks = connection.prepareStatement(INSERT_BLOCK)) {
+            int pending = 0;
+            for (UUID pageId : workspace.getPageIds()) {
+                int blockCount = skewedCount(random, config.getBlocksPerPage(), config.getBlockSkew());
+                List<UUID> blockIds = new ArrayList<>(blockCount);
+                for (int b = 0; b < blockCount; b++) {
+                    UUID blockId = uuidUtils.generate();
+                    blocks.setObject(1, blockId);
+                    blocks.setObject(2, pageId);
+                    blocks.setString(3, BLOCK_TYPES[random.nextInt(BLOCK_TYPES.length)]);
+                    blocks.setString(4, content);
+                    blocks.setInt(5, b);
+                    blocks.setTimestamp(6, now);
+                    blocks.setTimestamp(7, now);
+                    blocks.setObject(8, owner.getUserId());
+                    blocks.setObject(9, owner.getUserId());
+                    blocks.addBatch();
+                    blockIds.add(blockId);
+
+                    if (++pending == BATCH_SIZE) {
+                        blocks.executeBatch();
+                        pending = 0;
+                    }
+                }
+                workspace.getBlockIdsByPage().put(pageId, blockIds);
+            }
+            blocks.executeBatch();
+        }
+
+        return workspace;
+    }
+
+    private UserFixture newUser(int workspaceIndex, int userIndex) {
+        String username = "lt-" + workspaceIndex + "-" + userIndex;
+        return new UserFixture(uuidUtils.generate(), username, username + "@loadtest.local");
+    }
+
+    private void addUser(PreparedStatement statement, UserFixture user, Timestamp now) throws SQLException {
+        statement.setObject(1, user.getUserId());
+        statement.setString(2, user.getUsername());
+        statement.setString(3, PASSWORD_HASH);
+        statement.setString(4, user.getEmail());
+        statement.setTimestamp(5, now);
+        statement.addBatch();
+    }
+
+    private void addMember(PreparedStatement statement, UUID workspaceId, UUID userId, String role, Timestamp now)
+            throws SQLException {
+        statement.setObject(1, uuidUtils.generate());
+        statement.setObject(2, workspaceId);
+        statement.setObject(3, userId);
+        statement.setString(4, role);
+        statement.setTimestamp(5, now);
+        statement.addBatch();
+    }
+
+    private void addPermission(PreparedStatement statement, UUID pageId, UserFixture user, String permission,
+                               UUID grantedBy, Timestamp now) throws SQLException {
+        statement.setObject(1, uuidUtils.generate());
+        statement.setObject(2, pageId);
+        statement.setObject(3, user.getUserId());
+        statement.setString(4, permission);
+        statement.setTimestamp(5, now);
+        statement.setObject(6, grantedBy);
+        statement.addBatch();
+
+        user.getReadablePages().add(pageId);
+        if (!"READ".equals(permission)) {
+            user.getEditablePages().add(pageId);
+        }
+    }
+
+    /**
+     * 평균이 mean인 로그 정규 분포 표본 (sigma가 클수록 소수에 데이터가 몰림)
+     */
+    static int skewedCount(Random random, int mean, double sigma) {
+        if (sigma <= 0) {
+            return Math.max(1, mean);
+        }
+        double sample = mean * Math.exp(sigma * random.nextGaussian() - sigma * sigma / 2);
+        return Math.max(1, (int) Math.round(sample));
+    }
+
+    private static String blockContent(int bytes) {
+        StringBuilder text = new StringBuilder(bytes);
+        while (text.length() < bytes) {
+            text.append("lorem ipsum dolor sit amet ");
+        }
+        return LoadScenario.blockContent(text.substring(0, bytes));
+    }
+}
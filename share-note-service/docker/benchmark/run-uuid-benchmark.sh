@@ -0,0 +1,16 @@
+#!/bin/bash
+
+# UUIDv4 / UUIDv7 삽입 벤치마크 실행 스크립트
+# 사용법: ./run-uuid-benchmark.sh [행 수] (기본 1,000,000)
+ROWS=${1:-1000000}
+DB_HOST="localhost"
+DB_PORT="5432"
+DB_NAME="share_note"
+DB_USER="postgres"
+DB_PASSWORD="1234"
+
+cd "$(dirname "$0")"
+
+echo "UUID 삽입 벤치마크 시작 (행 수: ${ROWS})..."
+PGPASSWORD=$DB_PASSWORD psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME \
+    -v rows="$ROWS" -f uuid-insert-benchmark.sql
@@ -0,0 +1,68 @@
+-- UUIDv4 vs UUIDv7 PK 삽입 성능/인덱스 크기 비교
+-- 사용법: psql -v rows=1000000 -f uuid-insert-benchmark.sql
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+\set rows 1000000
+\endif
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+
+-- UuidUtils.generate()와 동일한 레이아웃의 UUIDv7 (48비트 밀리초 + 버전 7 + 난수)
+CREATE OR REPLACE FUNCTION bench_uuid_generate_v7() RETURNS UUID AS $$
+DECLARE
+    unix_ts_ms BYTEA;
+    uuid_bytes BYTEA;
+BEGIN
+    unix_ts_ms = substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3);
+    uuid_bytes = unix_ts_ms || substring(uuid_send(uuid_generate_v4()) FROM 7);
+    uuid_bytes = set_byte(uuid_bytes, 6, (b'0111' || get_byte(uuid_bytes, 6)::BIT(4))::BIT(8)::INT);
+    RETURN encode(uuid_bytes, 'hex')::UUID;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+DROP TABLE IF EXISTS bench_blocks_v4;
+DROP TABLE IF EXISTS bench_blocks_v7;
+
+-- blocks 테이블과 동일한 PK/FK 인덱스 구성
+CREATE UNLOGGED TABLE bench_blocks_v4 (
+    id UUID PRIMARY KEY,
+    page_id UUID NOT NULL,
+    content TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX bench_blocks_v4_page ON bench_blocks_v4 (page_id);
+
+CREATE UNLOGGED TABLE bench_blocks_v7 (LIKE bench_blocks_v4 INCLUDING ALL);
+
+-- 1. UUIDv4 삽입
+\echo '--- UUIDv4 insert ---'
+INSERT INTO bench_blocks_v4 (id, page_id, content)
+SELECT uuid_generate_v4(), uuid_generate_v4(), 'benchmark block ' || g
+FROM generate_series(1, :rows) g;
+
+-- 2. UUIDv7 삽입 (page_id도 시간 순서로 생성되는 운영 환경과 동일하게)
+\echo '--- UUIDv7 insert ---'
+INSERT INTO bench_blocks_v7 (id, page_id, content)
+SELECT bench_uuid_generate_v7(), bench_uuid_generate_v7(), 'benchmark block ' || g
+FROM generate_series(1, :rows) g;
+
+\timing off
+
+-- 3. 인덱스 크기 및 리프 페이지 밀도 비교
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+SELECT c.relname                                  AS index_name,
+       pg_size_pretty(pg_relation_size(c.oid))    AS index_size,
+       s.avg_leaf_density                         AS avg_leaf_density,
+       s.leaf_fragmentation                       AS leaf_fragmentation
+FROM pg_class c
+CROSS JOIN LATERAL pgstatindex(c.oid) s
+WHERE c.relname IN ('bench_blocks_v4_pkey', 'bench_blocks_v4_page',
+                    'bench_blocks_v7_pkey', 'bench_blocks_v7_page')
+ORDER BY c.relname;
+
+DROP TABLE bench_blocks_v4;
+DROP TABLE bench_blocks_v7;
+DROP FUNCTION bench_uuid_generate_v7();
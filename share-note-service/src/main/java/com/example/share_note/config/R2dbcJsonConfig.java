@@ -0,0 +1,47 @@
+package com.example.share_note.config;
+
+import com.example.share_note.domain.Block;
+import com.example.share_note.domain.Page;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JSONB 컬럼 바인딩 설정
+ * 엔티티는 JSON 컬럼을 String으로 매핑하는데 R2DBC는 String을 varchar로 바인딩하여 jsonb 컬럼에 저장할 수 없으므로,
+ * 저장 직전에 해당 컬럼의 값만 Json 타입으로 바꿔 jsonb로 바인딩한다. (조회는 jsonb를 String으로 그대로 읽는다.)
+ */
+@Configuration
+public class R2dbcJsonConfig {
+
+    private static final Set<String> PAGE_JSON_COLUMNS = Set.of("icon", "cover", "properties");
+    private static final Set<String> BLOCK_JSON_COLUMNS = Set.of("content");
+
+    @Bean
+    public BeforeSaveCallback<Page> pageJsonBeforeSaveCallback() {
+        return (page, row, table) -> Mono.just(bindJson(page, row, PAGE_JSON_COLUMNS));
+    }
+
+    @Bean
+    public BeforeSaveCallback<Block> blockJsonBeforeSaveCallback() {
+        return (block, row, table) -> Mono.just(bindJson(block, row, BLOCK_JSON_COLUMNS));
+    }
+
+    private static <T> T bindJson(T entity, OutboundRow row, Set<String> jsonColumns) {
+        for (SqlIdentifier column : List.copyOf(row.keySet())) {
+            if (jsonColumns.contains(column.getReference())) {
+                Object value = row.get(column).getValue();
+                row.put(column, value == null ? Parameter.empty(Json.class) : Parameter.from(Json.of((String) value)));
+            }
+        }
+        return entity;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.*;
 import org.springframework.cglib.core.Block;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -18,7 +19,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table(name = "pages")
-public class Page {
+public class Page implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -68,4 +69,13 @@ public class Page {
 
     @Transient
     private Set<Block> blocks;
+
+    // ID(UUIDv7)를 애플리케이션에서 할당하므로 INSERT/UPDATE 판단을 위해 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew;
+
+    @Override
+    public boolean isNew() {
+        return isNew || id == null;
+    }
 }
@@ -2,6 +2,8 @@ package com.example.share_note.domain;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -14,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table(name = "page_permissions")
-public class PagePermission {
+public class PagePermission implements Persistable<UUID> {
     @Id
     private UUID id;
 
@@ -32,4 +34,12 @@ public class PagePermission {
 
     @Column("granted_by")
     private UUID grantedBy;
+
+    @Transient
+    private boolean isNew;
+
+    @Override
+    public boolean isNew() {
+        return isNew || id == null;
+    }
 }
@@ -2,6 +2,8 @@ package com.example.share_note.domain;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -14,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table("refresh_token")
-public class RefreshToken {
+public class RefreshToken implements Persistable<UUID> {
     @Id
     private UUID id;
 
@@ -41,4 +43,12 @@ public class RefreshToken {
 
     @Column("created_at")
     private LocalDateTime createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    @Override
+    public boolean isNew() {
+        return isNew || id == null;
+    }
 }
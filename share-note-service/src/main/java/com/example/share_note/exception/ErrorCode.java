@@ -27,6 +27,7 @@ public enum ErrorCode {
     WORKSPACE_NOT_FOUND("WORKSPACE_001", "워크스페이스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     WORKSPACE_PERMISSION_DENIED("WORKSPACE_002", "워크스페이스에 대한 권한이 없습니다.", HttpStatus.FORBIDDEN),
     INVALID_WORKSPACE_NAME("WORKSPACE_003", "워크스페이스 이름은 공백이거나 비어 있을 수 없습니다.", HttpStatus.BAD_REQUEST),
+    WORKSPACE_BUSY("WORKSPACE_004", "워크스페이스에 처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     MEMBER_ALREADY_EXISTS("WORKSPACE_MEMBER_001", "이미 워크스페이스 멤버입니다.", HttpStatus.CONFLICT),
     MEMBER_NOT_FOUND("WORKSPACE_MEMBER_002", "워크스페이스 멤버를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -1,9 +1,11 @@
 package com.example.share_note.exception;
 
+import com.example.share_note.security.AuthorizationDenialMetrics;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,8 +16,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.time.LocalDateTime;
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final AuthorizationDenialMetrics authorizationDenialMetrics;
+
     @ExceptionHandler({
             UserException.class,
             WorkspaceException.class,
@@ -29,6 +34,10 @@ public class GlobalExceptionHandler {
         ErrorCode errorCode = ex.getErrorCode();
         HttpStatus httpStatus = errorCode.getHttpStatus();
 
+        if (httpStatus == HttpStatus.FORBIDDEN || httpStatus == HttpStatus.UNAUTHORIZED) {
+            authorizationDenialMetrics.increment("service", errorCode.getCode());
+        }
+
         ErrorResponseDto errorResponse = ErrorResponseDto.builder()
                 .message(errorCode.getMessage())
                 .status(httpStatus)
@@ -70,6 +79,7 @@ public class GlobalExceptionHandler {
         } else {
             errorCode = ErrorCode.INVALID_TOKEN;
         }
+        authorizationDenialMetrics.increment("token", errorCode.getCode());
 
         HttpStatus httpStatus = errorCode.getHttpStatus();
 
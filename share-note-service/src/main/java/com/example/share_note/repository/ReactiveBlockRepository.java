@@ -17,12 +17,12 @@ public interface ReactiveBlockRepository extends ReactiveCrudRepository<Block, U
     @Modifying
     @Query("""
         WITH RECURSIVE page_tree AS (
-            SELECT id FROM page WHERE id = :pageId
+            SELECT id FROM pages WHERE id = :pageId
             UNION ALL
-            SELECT p.id FROM page p
+            SELECT p.id FROM pages p
             JOIN page_tree pt ON p.parent_page_id = pt.id
         )
-        UPDATE block
+        UPDATE blocks
         SET is_archived = :isArchived
         WHERE page_id IN (SELECT id FROM page_tree);
     """)
@@ -32,12 +32,12 @@ public interface ReactiveBlockRepository extends ReactiveCrudRepository<Block, U
     @Modifying
     @Query("""
         WITH RECURSIVE page_tree AS (
-            SELECT id FROM page WHERE id = :pageId
+            SELECT id FROM pages WHERE id = :pageId
             UNION ALL
-            SELECT p.id FROM page p
+            SELECT p.id FROM pages p
             JOIN page_tree pt ON p.parent_page_id = pt.id
         )
-        DELETE FROM block
+        DELETE FROM blocks
         WHERE page_id IN (SELECT id FROM page_tree);
     """)
     Mono<Void> deleteAllByPageTree(UUID pageId);
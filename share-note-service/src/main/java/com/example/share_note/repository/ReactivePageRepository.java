@@ -24,12 +24,12 @@ public interface ReactivePageRepository extends ReactiveCrudRepository<Page, UUI
     @Modifying
     @Query("""
         WITH RECURSIVE page_tree AS (
-            SELECT id FROM page WHERE id = :pageId
+            SELECT id FROM pages WHERE id = :pageId
             UNION ALL
-            SELECT p.id FROM page p
+            SELECT p.id FROM pages p
             JOIN page_tree pt ON p.parent_page_id = pt.id
         )
-        UPDATE page
+        UPDATE pages
         SET is_archived = :isArchived, updated_at = NOW(), last_edited_by = :userId
         WHERE id IN (SELECT id FROM page_tree);
     """)
@@ -39,12 +39,12 @@ public interface ReactivePageRepository extends ReactiveCrudRepository<Page, UUI
     @Modifying
     @Query("""
         WITH RECURSIVE page_tree AS (
-            SELECT id FROM page WHERE id = :pageId
+            SELECT id FROM pages WHERE id = :pageId
             UNION ALL
-            SELECT p.id FROM page p
+            SELECT p.id FROM pages p
             JOIN page_tree pt ON p.parent_page_id = pt.id
         )
-        DELETE FROM page WHERE id IN (SELECT id FROM page_tree);
+        DELETE FROM pages WHERE id IN (SELECT id FROM page_tree);
     """)
     Mono<Void> deletePageAndDescendants(UUID pageId);
 }
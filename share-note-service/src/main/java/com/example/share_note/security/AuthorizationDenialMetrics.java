@@ -0,0 +1,31 @@
+package com.example.share_note.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증/인가 거부 카운터
+ * <p>
+ * sharenote.authorization.denials{source, code}
+ * - source: 거부가 발생한 위치 (service, token, authentication, entry_point, access_denied)
+ * - code: ErrorCode 코드 (보안 필터 단계는 HTTP 상태 이름)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorizationDenialMetrics {
+
+    public static final String METRIC_NAME = "sharenote.authorization.denials";
+
+    private final MeterRegistry meterRegistry;
+
+    public void increment(String source, String code) {
+        Counter.builder(METRIC_NAME)
+                .description("Number of rejected authentication/authorization attempts")
+                .tag("source", source)
+                .tag("code", code)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -24,6 +24,7 @@ import java.time.LocalDateTime;
 public class CustomServerAuthenticationFailureHandler implements ServerAuthenticationFailureHandler {
 
     private final ObjectMapper objectMapper;
+    private final AuthorizationDenialMetrics authorizationDenialMetrics;
 
     @Override
     public Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException exception) {
@@ -38,6 +39,7 @@ public class CustomServerAuthenticationFailureHandler implements ServerAuthentic
         } else {
             errorCode = ErrorCode.UNEXPECTED_ERROR;
         }
+        authorizationDenialMetrics.increment("authentication", errorCode.getCode());
 
         return buildErrorResponse(exchange, errorCode, HttpStatus.UNAUTHORIZED);
     }
@@ -1,5 +1,6 @@
 package com.example.share_note.security;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
@@ -8,10 +9,15 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 @Component
+@RequiredArgsConstructor
 public class JwtServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    private final AuthorizationDenialMetrics authorizationDenialMetrics;
+
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
         return Mono.fromRunnable(() -> {
+            authorizationDenialMetrics.increment("access_denied", HttpStatus.FORBIDDEN.name());
             exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
         });
     }
@@ -9,6 +9,7 @@ import com.example.share_note.exception.*;
 import com.example.share_note.repository.*;
 import com.example.share_note.service.BlockService;
 import com.example.share_note.util.UuidUtils;
+import com.example.share_note.util.WorkspaceBulkhead;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -29,6 +30,7 @@ public class BlockServiceImpl implements BlockService {
     private final ReactiveWorkspaceRepository reactiveWorkspaceRepository;
     private final ReactiveWorkspaceMemberRepository reactiveWorkspaceMemberRepository;
     private final UuidUtils uuidUtils;
+    private final WorkspaceBulkhead workspaceBulkhead;
 
     /**
      * 블록 생성
@@ -53,7 +55,7 @@ public class BlockServiceImpl implements BlockService {
                         .flatMap(user -> validateEditPermission(workspaceId, pageId, user.getId()))
                         .flatMap(page -> validateParentBlock(request.getParentBlockId(), pageId))
                         .then(getCurrentUser())
-                        .flatMap(user -> createAndSaveBlock(pageId, request, user.getId()))
+                        .flatMap(user -> withinWorkspaceBulkhead(workspaceId, createAndSaveBlock(pageId, request, user.getId())))
                         .map(BlockCreateResponseDto::from)
         );
     }
@@ -76,7 +78,7 @@ public class BlockServiceImpl implements BlockService {
         return handleStandardExceptions(
                 getCurrentUser()
                         .flatMap(user -> validateReadPermission(workspaceId, pageId, user.getId()))
-                        .flatMap(page ->
+                        .flatMap(page -> withinWorkspaceBulkhead(workspaceId,
                                 reactiveBlockRepository.findAllByPageIdAndIsArchivedFalseOrderByPositionAsc(pageId)
                                         .map(block -> BlockListItemResponseDto.builder()
                                                 .blockId(uuidUtils.fromUUID(block.getId()))
@@ -86,7 +88,7 @@ public class BlockServiceImpl implements BlockService {
                                                 .build())
                                         .collectList()
                                         .map(BlockListResponseDto::new)
-                        )
+                        ))
         );
     }
 
@@ -147,8 +149,8 @@ public class BlockServiceImpl implements BlockService {
                                                 validateEditPermission(workspaceId, pageId, user.getId())
                                                         .thenReturn(block)
                                         )
-                                        .map(block -> updateBlockFields(block, request, user.getId()))
-                                        .flatMap(reactiveBlockRepository::save)
+                                        .flatMap(block -> withinWorkspaceBulkhead(workspaceId,
+                                                reactiveBlockRepository.save(updateBlockFields(block, request, user.getId()))))
                         )
                         .map(BlockResponseDto::from)
         );
@@ -183,8 +185,8 @@ public class BlockServiceImpl implements BlockService {
                                                 .then(validateParentBlock(request.getNewParentBlockId(), pageId))
                                                 .thenReturn(block)
                                         )
-                                        .map(block -> updateBlockPosition(block, request, user.getId()))
-                                        .flatMap(reactiveBlockRepository::save)
+                                        .flatMap(block -> withinWorkspaceBulkhead(workspaceId,
+                                                reactiveBlockRepository.save(updateBlockPosition(block, request, user.getId()))))
                         )
                         .map(BlockResponseDto::from)
         );
@@ -212,8 +214,8 @@ public class BlockServiceImpl implements BlockService {
                 getCurrentUser()
                         .flatMap(customUserDetails ->
                                 validateBlockAndEditPermissionForArchive(workspaceId, pageId, blockId, customUserDetails.getId())
-                                        .flatMap(block ->
-                                                updateArchiveStatus(blockId, true, customUserDetails.getId())
+                                        .flatMap(block -> withinWorkspaceBulkhead(workspaceId,
+                                                updateArchiveStatus(blockId, true, customUserDetails.getId()))
                                         )
                         )
         );
@@ -240,7 +242,8 @@ public class BlockServiceImpl implements BlockService {
         return handleStandardExceptions(getCurrentUser()
                 .flatMap(customUserDetails ->
                         validateBlockAndEditPermissionForArchive(workspaceId, pageId, blockId, customUserDetails.getId())
-                                .flatMap(block -> updateArchiveStatus(blockId, false, customUserDetails.getId()))
+                                .flatMap(block -> withinWorkspaceBulkhead(workspaceId,
+                                        updateArchiveStatus(blockId, false, customUserDetails.getId())))
                 )
         );
     }
@@ -376,6 +379,14 @@ public class BlockServiceImpl implements BlockService {
         return Mono.empty();
     }
 
+    /**
+     * 접근 확인을 통과한 DB 작업만 워크스페이스 벌크헤드 안에서 실행
+     * 인증/권한 확인은 허용량 밖에서 하므로 권한 없는 요청이 워크스페이스의 허용량을 차지하지 못한다.
+     */
+    private <T> Mono<T> withinWorkspaceBulkhead(UUID workspaceId, Mono<T> operation) {
+        return workspaceBulkhead.execute(workspaceId, operation);
+    }
+
     /**
      * 표준 예외 매핑 처리
      */
@@ -399,6 +410,8 @@ public class BlockServiceImpl implements BlockService {
      */
     private Mono<Block> createAndSaveBlock(UUID pageId, BlockCreateRequestDto request, UUID userId) {
         return reactiveBlockRepository.save(Block.builder()
+                .id(uuidUtils.generate())
+                .isNew(true)
                 .pageId(pageId)
                 .parentBlockId(uuidUtils.fromString(request.getParentBlockId()))
                 .type(request.getType())
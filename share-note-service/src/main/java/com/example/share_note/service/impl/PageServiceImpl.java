@@ -14,6 +14,7 @@ import com.example.share_note.exception.*;
 import com.example.share_note.repository.*;
 import com.example.share_note.service.PageService;
 import com.example.share_note.util.UuidUtils;
+import com.example.share_note.util.WorkspaceBulkhead;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -34,6 +35,7 @@ public class PageServiceImpl implements PageService {
     private final ReactiveWorkspaceMemberRepository reactiveWorkspaceMemberRepository;
     private final ReactiveBlockRepository reactiveBlockRepository;
     private final UuidUtils uuidUtils;
+    private final WorkspaceBulkhead workspaceBulkhead;
 
     /**
      * 페이지 생성
@@ -90,7 +92,8 @@ public class PageServiceImpl implements PageService {
                                                     );
                                         })
                                         .flatMap(finalCustomUserDetails ->
-                                                createAndSavePage(workspaceId, request, finalCustomUserDetails.getId())
+                                                withinWorkspaceBulkhead(workspaceId,
+                                                        createAndSavePage(workspaceId, request, finalCustomUserDetails.getId()))
                                         )
                         )
                         .map(PageCreateResponseDto::from)
@@ -116,7 +119,7 @@ public class PageServiceImpl implements PageService {
                         .flatMap(user ->
                                 findWorkspaceById(workspaceId)
                                         .flatMap(workspace -> validateWorkspaceAccess(workspaceId, user, workspace))
-                                        .flatMap(validatedUser ->
+                                        .flatMap(validatedUser -> withinWorkspaceBulkhead(workspaceId,
                                                 reactivePageRepository.findAllByWorkspaceIdAndParentPageIdIsNull(workspaceId)
                                                         .map(page -> PageListItemResponseDto.builder()
                                                                 .pageId(page.getId().toString())
@@ -125,7 +128,7 @@ public class PageServiceImpl implements PageService {
                                                                 .build())
                                                         .collectList()
                                                         .map(PageListResponseDto::new)
-                                        )
+                                        ))
                         )
         );
     }
@@ -188,8 +191,8 @@ public class PageServiceImpl implements PageService {
                                         .flatMap(workspace ->
                                                 findPageByIdAndWorkspaceId(pageId, workspaceId)
                                                         .flatMap(page -> validatePageEditAccess(workspaceId, pageId, user.getId(), workspace, page))
-                                                        .map(page -> updatePageFields(page, request, user.getId()))
-                                                        .flatMap(reactivePageRepository::save)
+                                                        .flatMap(page -> withinWorkspaceBulkhead(workspaceId,
+                                                                reactivePageRepository.save(updatePageFields(page, request, user.getId()))))
                                         )
                         )
                         .map(PageResponseDto::from)
@@ -232,7 +235,7 @@ public class PageServiceImpl implements PageService {
                                                                                 return Mono.error(new WorkspaceMemberException(ErrorCode.INVITED_USER_NOT_WORKSPACE_MEMBER));
                                                                             }
 
-                                                                            return reactivePagePermissionRepository.findByPageIdAndUserId(pageId, invitedUserId)
+                                                                            return withinWorkspaceBulkhead(workspaceId, reactivePagePermissionRepository.findByPageIdAndUserId(pageId, invitedUserId)
                                                                                     .flatMap(existingPermission -> {
                                                                                         existingPermission.setPermission(request.getPermissionType());
                                                                                         return reactivePagePermissionRepository.save(existingPermission)
@@ -240,12 +243,14 @@ public class PageServiceImpl implements PageService {
                                                                                     })
                                                                                     .switchIfEmpty(
                                                                                             reactivePagePermissionRepository.save(PagePermission.builder()
+                                                                                                            .id(uuidUtils.generate())
+                                                                                                            .isNew(true)
                                                                                                             .pageId(pageId)
                                                                                                             .userId(invitedUserId)
                                                                                                             .permission(request.getPermissionType())
                                                                                                             .build())
                                                                                                     .map(PageInviteResponseDto::from)
-                                                                                    );
+                                                                                    ));
                                                                         })
                                                         )
                                         )
@@ -301,13 +306,13 @@ public class PageServiceImpl implements PageService {
                                                                                 return Mono.error(new PagePermissionException(ErrorCode.CANNOT_CHANGE_OWNER_PERMISSION));
                                                                             }
 
-                                                                            return reactivePagePermissionRepository.findByPageIdAndUserId(pageId, targetUserId)
+                                                                            return withinWorkspaceBulkhead(workspaceId, reactivePagePermissionRepository.findByPageIdAndUserId(pageId, targetUserId)
                                                                                     .flatMap(existingPermission -> {
                                                                                         existingPermission.setPermission(request.getPermissionType());
                                                                                         return reactivePagePermissionRepository.save(existingPermission)
                                                                                                 .map(PageUpdatePermissionResponseDto::from);
                                                                                     })
-                                                                                    .switchIfEmpty(Mono.error(new PagePermissionException(ErrorCode.PAGE_PERMISSION_NOT_FOUND)));
+                                                                                    .switchIfEmpty(Mono.error(new PagePermissionException(ErrorCode.PAGE_PERMISSION_NOT_FOUND))));
                                                                         })
                                                         )
                                         )
@@ -352,7 +357,7 @@ public class PageServiceImpl implements PageService {
                                                             page.setPublic(request.getIsPublic());
                                                             page.setUpdatedAt(LocalDateTime.now());
                                                             page.setLastEditedBy(user.getId());
-                                                            return reactivePageRepository.save(page)
+                                                            return withinWorkspaceBulkhead(workspaceId, reactivePageRepository.save(page))
                                                                     .map(PagePublicStatusUpdateResponseDto::from);
                                                         })
                                         )
@@ -397,11 +402,11 @@ public class PageServiceImpl implements PageService {
                                                                     })
                                                                     .switchIfEmpty(Mono.error(new PagePermissionException(ErrorCode.PAGE_PERMISSION_DENIED)));
                                                         })
-                                                        .flatMap(page ->
+                                                        .flatMap(page -> withinWorkspaceBulkhead(workspaceId,
                                                                 reactivePageRepository.updateArchiveStatusForTree(pageId, true, page.getLastEditedBy())
                                                                         .then(reactiveBlockRepository.updateArchiveStatusForPageTree(pageId, true))
                                                                         .thenReturn(PageStatusResponseDto.builder().pageId(pageIdStr).isArchived(true).build())
-                                                        )
+                                                        ))
                                         )
                         )
         );
@@ -443,11 +448,11 @@ public class PageServiceImpl implements PageService {
                                                                     })
                                                                     .switchIfEmpty(Mono.error(new PagePermissionException(ErrorCode.PAGE_PERMISSION_DENIED)));
                                                         })
-                                                        .flatMap(page ->
+                                                        .flatMap(page -> withinWorkspaceBulkhead(workspaceId,
                                                                 reactivePageRepository.updateArchiveStatusForTree(pageId, false, page.getLastEditedBy())
                                                                         .then(reactiveBlockRepository.updateArchiveStatusForPageTree(pageId, false))
                                                                         .thenReturn(PageStatusResponseDto.builder().pageId(pageIdStr).isArchived(false).build())
-                                                        )
+                                                        ))
                                         )
                         )
         );
@@ -489,11 +494,11 @@ public class PageServiceImpl implements PageService {
                                                                     })
                                                                     .switchIfEmpty(Mono.error(new PagePermissionException(ErrorCode.PAGE_PERMISSION_DENIED)));
                                                         })
-                                                        .flatMap(page ->
+                                                        .flatMap(page -> withinWorkspaceBulkhead(workspaceId,
                                                                 reactiveBlockRepository.deleteAllByPageTree(pageId)
                                                                         .then(reactivePageRepository.deletePageAndDescendants(pageId))
                                                                         .then()
-                                                        )
+                                                        ))
                                         )
                         )
         );
@@ -622,6 +627,8 @@ public class PageServiceImpl implements PageService {
      */
     private Mono<Page> createAndSavePage(UUID workspaceId, PageCreateRequestDto request, UUID userId) {
         return reactivePageRepository.save(Page.builder()
+                .id(uuidUtils.generate())
+                .isNew(true)
                 .workspaceId(workspaceId)
                 .parentPageId(uuidUtils.fromString(request.getParentPageId()))
                 .title(request.getTitle() != null ? request.getTitle() : "Untitled")
@@ -656,6 +663,14 @@ public class PageServiceImpl implements PageService {
         return page;
     }
 
+    /**
+     * 접근 확인을 통과한 DB 작업만 워크스페이스 벌크헤드 안에서 실행
+     * 인증/권한 확인은 허용량 밖에서 하므로 권한 없는 요청이 워크스페이스의 허용량을 차지하지 못한다.
+     */
+    private <T> Mono<T> withinWorkspaceBulkhead(UUID workspaceId, Mono<T> operation) {
+        return workspaceBulkhead.execute(workspaceId, operation);
+    }
+
     /**
      * 표준 예외 매핑 처리
      */
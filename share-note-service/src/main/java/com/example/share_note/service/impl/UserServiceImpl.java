@@ -49,6 +49,7 @@ public class UserServiceImpl implements UserService {
                 .switchIfEmpty(Mono.defer(() -> {
                     User user = User.builder()
                             .id(uuidUtils.generate())
+                            .isNew(true)
                             .username(request.getUsername())
                             .password(passwordEncoder.encode(request.getPassword()))
                             .email(request.getEmail())
@@ -96,6 +97,7 @@ public class UserServiceImpl implements UserService {
 
                             RefreshToken refreshTokenEntity = RefreshToken.builder()
                                     .id(uuidUtils.generate())
+                                    .isNew(true)
                                     .refreshToken(refreshToken)
                                     .username(user.getUsername())
                                     .expirationDate(LocalDateTime.now().plusHours(720))
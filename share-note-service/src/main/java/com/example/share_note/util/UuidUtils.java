@@ -7,21 +7,56 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UuidUtils {
 
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * 마지막으로 발급한 (유닉스 밀리초 << 12 | 밀리초 내 순번) 값
+     */
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    /**
+     * 시간 순서 UUID(v7, RFC 9562) 생성
+     * 1. 상위 48비트: 유닉스 밀리초 타임스탬프
+     * 2. rand_a 12비트: 같은 밀리초 안에서 증가하는 순번 (CAS 기반, 락 없음)
+     * 3. rand_b 62비트: 난수
+     * 순번이 소진되거나 시계가 뒤로 가면 직전 값의 다음 순번을 사용하여 단조 증가를 보장한다.
+     * 새 PK가 B-tree 인덱스의 오른쪽 끝에 모이므로 v4 대비 페이지 분할과 캐시 미스가 줄어든다.
+     */
     public UUID generate() {
         try {
-            return UUID.randomUUID();
+            long timestampAndSequence = nextTimestampAndSequence();
+            long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+            long sequence = timestampAndSequence & SEQUENCE_MASK;
+
+            long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+            long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(mostSigBits, leastSigBits);
         } catch (Exception e) {
             log.error("UUID generation failed: {}", e.getMessage(), e);
             throw new UuidException(ErrorCode.UUID_GENERATE_FAIL);
         }
     }
 
+    private long nextTimestampAndSequence() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long next = Math.max(last + 1, now);
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
     public UUID fromString(String uuidString) {
         if (uuidString == null || uuidString.trim().isEmpty()) {
             log.error("UUID string is null or empty");
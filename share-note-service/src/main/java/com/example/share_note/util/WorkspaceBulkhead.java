@@ -0,0 +1,181 @@
+package com.example.share_note.util;
+
+import com.example.share_note.exception.ErrorCode;
+import com.example.share_note.exception.WorkspaceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 워크스페이스 단위 벌크헤드
+ * <p>
+ * 하나의 워크스페이스에서 동시에 실행되는 DB 작업 수를 제한하여,
+ * 대형 페이지 트리를 보관/삭제하는 워크스페이스가 공유 R2DBC 커넥션 풀을 독점하지 못하도록 격리한다.
+ * - 허용량을 초과한 요청은 워크스페이스별 대기열(FIFO)에서 대기
+ * - 대기열이 가득 찼거나 대기 시간이 초과되면 WORKSPACE_BUSY 예외 발생
+ */
+@Slf4j
+@Component
+public class WorkspaceBulkhead {
+
+    private final int maxConcurrentCalls;
+    private final int maxWaitingCalls;
+    private final Duration maxWaitDuration;
+
+    private final ConcurrentMap<UUID, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public WorkspaceBulkhead(@Value("${bulkhead.workspace.max-concurrent-calls:8}") int maxConcurrentCalls,
+                             @Value("${bulkhead.workspace.max-waiting-calls:64}") int maxWaitingCalls,
+                             @Value("${bulkhead.workspace.max-wait-millis:2000}") long maxWaitMillis) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitingCalls = maxWaitingCalls;
+        this.maxWaitDuration = Duration.ofMillis(maxWaitMillis);
+    }
+
+    /**
+     * 워크스페이스 허용량 안에서 작업 실행
+     * 작업이 완료, 실패, 취소되는 시점에 허용량을 반납한다.
+     *
+     * @param workspaceId 격리 단위가 되는 워크스페이스 ID
+     * @param operation   DB 작업을 포함하는 리액티브 파이프라인
+     * @return 허용량 획득 후 구독되는 작업
+     */
+    public <T> Mono<T> execute(UUID workspaceId, Mono<T> operation) {
+        if (workspaceId == null) {
+            return operation;
+        }
+        return Mono.usingWhen(
+                acquire(workspaceId),
+                permit -> operation,
+                permit -> Mono.fromRunnable(permit::release)
+        );
+    }
+
+    /**
+     * 현재 워크스페이스에서 실행 중인 작업 수
+     */
+    public int getInFlightCalls(UUID workspaceId) {
+        Compartment compartment = compartments.get(workspaceId);
+        if (compartment == null) {
+            return 0;
+        }
+        synchronized (compartment) {
+            return compartment.inFlight;
+        }
+    }
+
+    /**
+     * 허용량 획득
+     * 대기 중 취소된 구독에 전달된 허용량은 discard 훅에서 반납된다.
+     */
+    private Mono<Permit> acquire(UUID workspaceId) {
+        return Mono.<Permit>create(sink -> tryAcquire(workspaceId, sink))
+                .timeout(maxWaitDuration)
+                .onErrorMap(TimeoutException.class, e -> {
+                    log.warn("워크스페이스 {} 벌크헤드 대기 시간 초과 ({}ms)", workspaceId, maxWaitDuration.toMillis());
+                    return new WorkspaceException(ErrorCode.WORKSPACE_BUSY);
+                })
+                .doOnDiscard(Permit.class, Permit::release);
+    }
+
+    private void tryAcquire(UUID workspaceId, MonoSink<Permit> sink) {
+        Compartment compartment;
+        boolean acquired;
+
+        while (true) {
+            compartment = compartments.computeIfAbsent(workspaceId, Compartment::new);
+            synchronized (compartment) {
+                if (compartment.retired) {
+                    continue;
+                }
+                acquired = compartment.inFlight < maxConcurrentCalls;
+                if (acquired) {
+                    compartment.inFlight++;
+                } else if (compartment.waiters.size() < maxWaitingCalls) {
+                    compartment.waiters.addLast(sink);
+                } else {
+                    log.warn("워크스페이스 {} 벌크헤드 대기열 초과 (실행: {}, 대기: {})",
+                            workspaceId, compartment.inFlight, compartment.waiters.size());
+                    sink.error(new WorkspaceException(ErrorCode.WORKSPACE_BUSY));
+                    return;
+                }
+            }
+            break;
+        }
+
+        if (acquired) {
+            sink.success(new Permit(compartment));
+            return;
+        }
+
+        Compartment waitingCompartment = compartment;
+        sink.onCancel(() -> {
+            synchronized (waitingCompartment) {
+                waitingCompartment.waiters.remove(sink);
+            }
+        });
+    }
+
+    /**
+     * 허용량 반납
+     * 대기 중인 요청이 있으면 허용량을 그대로 넘겨주고, 없으면 비어있는 구획을 정리한다.
+     */
+    private void release(Compartment compartment) {
+        MonoSink<Permit> next;
+        synchronized (compartment) {
+            next = compartment.waiters.pollFirst();
+            if (next == null) {
+                compartment.inFlight--;
+                if (compartment.inFlight == 0) {
+                    compartment.retired = true;
+                    compartments.remove(compartment.workspaceId, compartment);
+                }
+                return;
+            }
+        }
+        next.success(new Permit(compartment));
+    }
+
+    /**
+     * 워크스페이스별 실행/대기 상태
+     */
+    private static final class Compartment {
+        private final UUID workspaceId;
+        private final Deque<MonoSink<Permit>> waiters = new ArrayDeque<>();
+        private int inFlight;
+        private boolean retired;
+
+        private Compartment(UUID workspaceId) {
+            this.workspaceId = workspaceId;
+        }
+    }
+
+    /**
+     * 한 번만 반납되는 허용량
+     */
+    private final class Permit {
+        private final Compartment compartment;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Compartment compartment) {
+            this.compartment = compartment;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                WorkspaceBulkhead.this.release(compartment);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.share_note.config;
+
+import com.example.share_note.domain.Block;
+import com.example.share_note.domain.Page;
+import io.r2dbc.postgresql.codec.Json;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcJsonConfigTest {
+
+    private final R2dbcJsonConfig config = new R2dbcJsonConfig();
+
+    @Test
+    @DisplayName("페이지 저장 시 icon/cover/properties만 Json으로 바인딩")
+    void pageJsonBeforeSaveCallback_Success_BindsJsonColumns() {
+        Page page = Page.builder().title("title").build();
+        OutboundRow row = new OutboundRow();
+        row.put(SqlIdentifier.unquoted("title"), Parameter.from("title"));
+        row.put(SqlIdentifier.unquoted("icon"), Parameter.from("{\"type\":\"emoji\",\"emoji\":\"page\"}"));
+        row.put(SqlIdentifier.unquoted("cover"), Parameter.empty(String.class));
+        row.put(SqlIdentifier.unquoted("properties"), Parameter.from("{}"));
+
+        StepVerifier.create(config.pageJsonBeforeSaveCallback().onBeforeSave(page, row, SqlIdentifier.unquoted("pages")))
+                .expectNext(page)
+                .verifyComplete();
+
+        assertThat(row.get(SqlIdentifier.unquoted("title")).getValue()).isEqualTo("title");
+        assertThat(((Json) row.get(SqlIdentifier.unquoted("icon")).getValue()).asString())
+                .isEqualTo("{\"type\":\"emoji\",\"emoji\":\"page\"}");
+        assertThat(row.get(SqlIdentifier.unquoted("cover")).getValue()).isNull();
+        assertThat(row.get(SqlIdentifier.unquoted("cover")).getType()).isEqualTo(Json.class);
+        assertThat(((Json) row.get(SqlIdentifier.unquoted("properties")).getValue()).asString()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("블록 저장 시 content를 Json으로 바인딩")
+    void blockJsonBeforeSaveCallback_Success_BindsContent() {
+        Block block = Block.builder().type("paragraph").build();
+        OutboundRow row = new OutboundRow();
+        row.put(SqlIdentifier.unquoted("type"), Parameter.from("paragraph"));
+        row.put(SqlIdentifier.unquoted("content"), Parameter.from("{\"rich_text\":[]}"));
+
+        StepVerifier.create(config.blockJsonBeforeSaveCallback().onBeforeSave(block, row, SqlIdentifier.unquoted("blocks")))
+                .expectNext(block)
+                .verifyComplete();
+
+        assertThat(row.get(SqlIdentifier.unquoted("type")).getValue()).isEqualTo("paragraph");
+        assertThat(((Json) row.get(SqlIdentifier.unquoted("content")).getValue()).asString()).isEqualTo("{\"rich_text\":[]}");
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.share_note.integration;
+
+import com.example.share_note.security.AuthorizationDenialMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@AutoConfigureObservability
+public class ActuatorIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트는 인증 없이 조회 가능")
+    void prometheus_Success_WithoutAuthentication() {
+        webTestClient.get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("r2dbc_pool_acquired_connections"));
+    }
+
+    @Test
+    @DisplayName("인증 없이 API 호출 시 인증 거부 카운터 증가")
+    void authorizationDenial_Counted() {
+        webTestClient.get()
+                .uri("/api/workspaces")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        assertThat(meterRegistry.find(AuthorizationDenialMetrics.METRIC_NAME)
+                .tag("source", "entry_point")
+                .counter())
+                .isNotNull()
+                .satisfies(counter -> assertThat(counter.count()).isGreaterThanOrEqualTo(1));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.share_note.repository;
+
+import com.example.share_note.domain.Block;
+import com.example.share_note.domain.Page;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지/블록 트리 보관·복원·삭제 쿼리의 테이블 이름 회귀 테스트
+ * 재귀 CTE 쿼리는 엔티티 매핑을 거치지 않으므로, 쿼리가 참조하는 테이블이 엔티티의 @Table 이름과 같은지 확인한다.
+ */
+class TreeQueryTableNameTest {
+
+    private static final Pattern CTE_NAME = Pattern.compile("(?i)(?:WITH\\s+RECURSIVE|,)\\s+(\\w+)\\s+AS\\s*\\(");
+    private static final Pattern TABLE_REFERENCE = Pattern.compile("(?i)\\b(?:FROM|JOIN|UPDATE|INTO)\\s+(\\w+)");
+
+    private static final Set<String> TREE_TABLES = Set.of(tableName(Page.class), tableName(Block.class));
+
+    @Test
+    @DisplayName("페이지 트리 보관/삭제 쿼리는 pages 테이블만 참조")
+    void pageTreeQueries_Success_ReferenceMappedTables() throws NoSuchMethodException {
+        assertThat(referencedTables(ReactivePageRepository.class.getMethod(
+                "updateArchiveStatusForTree", UUID.class, boolean.class, UUID.class)))
+                .containsExactly("pages");
+        assertThat(referencedTables(ReactivePageRepository.class.getMethod(
+                "deletePageAndDescendants", UUID.class)))
+                .containsExactly("pages");
+    }
+
+    @Test
+    @DisplayName("페이지 트리의 블록 보관/삭제 쿼리는 pages, blocks 테이블만 참조")
+    void blockPageTreeQueries_Success_ReferenceMappedTables() throws NoSuchMethodException {
+        assertThat(referencedTables(ReactiveBlockRepository.class.getMethod(
+                "updateArchiveStatusForPageTree", UUID.class, boolean.class)))
+                .containsExactlyInAnyOrder("pages", "blocks");
+        assertThat(referencedTables(ReactiveBlockRepository.class.getMethod(
+                "deleteAllByPageTree", UUID.class)))
+                .containsExactlyInAnyOrder("pages", "blocks");
+    }
+
+    @Test
+    @DisplayName("페이지/블록 저장소의 모든 쿼리는 매핑된 테이블 이름만 참조")
+    void allQueries_Success_ReferenceMappedTables() {
+        for (Class<?> repository : List.of(ReactivePageRepository.class, ReactiveBlockRepository.class)) {
+            for (var method : repository.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Query.class)) {
+                    assertThat(referencedTables(method))
+                            .as("%s.%s", repository.getSimpleName(), method.getName())
+                            .isSubsetOf(TREE_TABLES);
+                }
+            }
+        }
+    }
+
+    /**
+     * 쿼리가 참조하는 테이블 이름 (CTE 이름 제외)
+     */
+    private static Set<String> referencedTables(Method method) {
+        String sql = method.getAnnotation(Query.class).value();
+
+        Set<String> cteNames = new HashSet<>();
+        Matcher cte = CTE_NAME.matcher(sql);
+        while (cte.find()) {
+            cteNames.add(cte.group(1).toLowerCase(Locale.ROOT));
+        }
+
+        Set<String> tables = new LinkedHashSet<>();
+        Matcher reference = TABLE_REFERENCE.matcher(sql);
+        while (reference.find()) {
+            String name = reference.group(1).toLowerCase(Locale.ROOT);
+            if (!cteNames.contains(name)) {
+                tables.add(name);
+            }
+        }
+        return tables;
+    }
+
+    private static String tableName(Class<?> entity) {
+        return AnnotatedElementUtils.findMergedAnnotation(entity, Table.class).value();
+    }
+}
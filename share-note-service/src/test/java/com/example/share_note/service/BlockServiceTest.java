@@ -16,11 +16,13 @@ import com.example.share_note.exception.WorkspaceMemberException;
 import com.example.share_note.repository.*;
 import com.example.share_note.service.impl.BlockServiceImpl;
 import com.example.share_note.util.UuidUtils;
+import com.example.share_note.util.WorkspaceBulkhead;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -58,6 +60,9 @@ class BlockServiceTest {
     @Mock
     private UuidUtils uuidUtils;
 
+    @Spy
+    private WorkspaceBulkhead workspaceBulkhead = new WorkspaceBulkhead(8, 64, 2000);
+
     @InjectMocks
     private BlockServiceImpl blockService;
 
@@ -1047,6 +1052,9 @@ class BlockServiceTest {
                     .expectError(PagePermissionException.class)
                     .verify();
         }
+
+        // 권한 없는 요청은 워크스페이스 허용량을 차지하지 않음
+        verify(workspaceBulkhead, never()).execute(any(), any());
     }
 
     @Test
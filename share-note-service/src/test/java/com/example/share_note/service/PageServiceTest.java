@@ -11,11 +11,13 @@ import com.example.share_note.exception.*;
 import com.example.share_note.repository.*;
 import com.example.share_note.service.impl.PageServiceImpl;
 import com.example.share_note.util.UuidUtils;
+import com.example.share_note.util.WorkspaceBulkhead;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -53,6 +55,9 @@ public class PageServiceTest {
     @Mock
     private UuidUtils uuidUtils;
 
+    @Spy
+    private WorkspaceBulkhead workspaceBulkhead = new WorkspaceBulkhead(8, 64, 2000);
+
     @InjectMocks
     private PageServiceImpl pageService;
 
@@ -1349,6 +1354,9 @@ public class PageServiceTest {
                     })
                     .verifyComplete();
         }
+
+        // 접근 확인을 통과한 보관 작업만 워크스페이스 벌크헤드 안에서 실행
+        verify(workspaceBulkhead).execute(eq(workspaceId), any());
     }
 
     @Test
@@ -1482,6 +1490,9 @@ public class PageServiceTest {
                     .expectError(PagePermissionException.class)
                     .verify();
         }
+
+        // 권한 없는 요청은 워크스페이스 허용량을 차지하지 않음
+        verify(workspaceBulkhead, never()).execute(any(), any());
     }
 
     @Test
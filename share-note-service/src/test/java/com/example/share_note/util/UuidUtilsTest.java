@@ -0,0 +1,71 @@
+package com.example.share_note.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidUtilsTest {
+
+    private UuidUtils uuidUtils;
+
+    @BeforeEach
+    void setUp() {
+        uuidUtils = new UuidUtils();
+    }
+
+    @Test
+    @DisplayName("UUIDv7 버전/변형 비트와 타임스탬프 확인")
+    void generate_Success_Version7() {
+        long before = System.currentTimeMillis();
+        UUID uuid = uuidUtils.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertThat(timestamp).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("연속 생성 시 단조 증가")
+    void generate_Success_Monotonic() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(uuidUtils.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(Long.compareUnsigned(
+                    uuids.get(i - 1).getMostSignificantBits(),
+                    uuids.get(i).getMostSignificantBits())).isNegative();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 생성 시 중복 없음")
+    void generate_Success_ConcurrentUnique() throws InterruptedException {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    uuids.add(uuidUtils.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(uuids).hasSize(40_000);
+    }
+}
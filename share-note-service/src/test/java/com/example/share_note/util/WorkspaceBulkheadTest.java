@@ -0,0 +1,106 @@
+package com.example.share_note.util;
+
+import com.example.share_note.exception.ErrorCode;
+import com.example.share_note.exception.WorkspaceException;
+import org.junit.jupiter.api.*;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class WorkspaceBulkheadTest {
+
+    private WorkspaceBulkhead workspaceBulkhead;
+    private UUID workspaceId;
+    private UUID otherWorkspaceId;
+
+    @BeforeEach
+    void setUp() {
+        workspaceBulkhead = new WorkspaceBulkhead(1, 1, 200);
+        workspaceId = UUID.randomUUID();
+        otherWorkspaceId = UUID.randomUUID();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("허용량 안에서 작업 실행 후 허용량 반납")
+    void execute_Success_ReleasesPermit() {
+        StepVerifier.create(workspaceBulkhead.execute(workspaceId, Mono.just("done")))
+                .expectNext("done")
+                .verifyComplete();
+
+        assertThat(workspaceBulkhead.getInFlightCalls(workspaceId)).isZero();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("대기 중인 작업은 앞선 작업이 끝나면 실행")
+    void execute_Success_WaiterRunsAfterRelease() {
+        Sinks.One<String> first = Sinks.one();
+
+        StepVerifier.create(workspaceBulkhead.execute(workspaceId, first.asMono()))
+                .then(() -> {
+                    assertThat(workspaceBulkhead.getInFlightCalls(workspaceId)).isEqualTo(1);
+
+                    StepVerifier.create(workspaceBulkhead.execute(workspaceId, Mono.just("second")))
+                            .then(() -> first.tryEmitValue("first"))
+                            .expectNext("second")
+                            .verifyComplete();
+                })
+                .expectNext("first")
+                .verifyComplete();
+
+        assertThat(workspaceBulkhead.getInFlightCalls(workspaceId)).isZero();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("대기 시간 초과 시 WORKSPACE_BUSY 예외 발생")
+    void execute_Fail_WaitTimeout() {
+        Sinks.One<String> blocking = Sinks.one();
+        workspaceBulkhead.execute(workspaceId, blocking.asMono()).subscribe();
+
+        StepVerifier.create(workspaceBulkhead.execute(workspaceId, Mono.just("late")))
+                .expectErrorMatches(throwable -> throwable instanceof WorkspaceException &&
+                        ((WorkspaceException) throwable).getErrorCode() == ErrorCode.WORKSPACE_BUSY)
+                .verify(Duration.ofSeconds(2));
+
+        blocking.tryEmitValue("done");
+        assertThat(workspaceBulkhead.getInFlightCalls(workspaceId)).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("대기열이 가득 차면 즉시 WORKSPACE_BUSY 예외 발생")
+    void execute_Fail_QueueFull() {
+        Sinks.One<String> blocking = Sinks.one();
+        workspaceBulkhead.execute(workspaceId, blocking.asMono()).subscribe();
+        workspaceBulkhead.execute(workspaceId, Mono.just("queued")).subscribe();
+
+        StepVerifier.create(workspaceBulkhead.execute(workspaceId, Mono.just("rejected")))
+                .expectErrorMatches(throwable -> throwable instanceof WorkspaceException &&
+                        ((WorkspaceException) throwable).getErrorCode() == ErrorCode.WORKSPACE_BUSY)
+                .verify(Duration.ofMillis(100));
+
+        blocking.tryEmitValue("done");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("다른 워크스페이스의 작업은 영향을 받지 않음")
+    void execute_Success_OtherWorkspaceIsolated() {
+        Sinks.One<String> blocking = Sinks.one();
+        workspaceBulkhead.execute(workspaceId, blocking.asMono()).subscribe();
+
+        StepVerifier.create(workspaceBulkhead.execute(otherWorkspaceId, Mono.just("other")))
+                .expectNext("other")
+                .verifyComplete();
+
+        blocking.tryEmitValue("done");
+    }
+}
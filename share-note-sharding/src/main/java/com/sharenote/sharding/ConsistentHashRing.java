@@ -0,0 +1,99 @@
+package com.sharenote.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 가상 노드 기반 일관된 해시 링 (샤드 배치)
+ * <p>
+ * 1. 노드마다 (가상 노드 수 × 가중치)개의 점을 "노드#번호"의 MD5 상위 64비트 위치에 놓는다.
+ * 2. 키는 같은 해시로 링 위치를 구하고, 시계 방향으로 처음 만나는 점의 노드에 배치한다.
+ * 노드를 하나 추가하면 새 노드 몫(약 1/N)의 키만 옮겨가고, 가중치가 큰 노드는 그만큼 많은 키를 받는다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 공유해도 안전하다.
+ * 재분배 모듈과 서비스가 같은 설정으로 만들면 같은 키를 같은 노드에 배치한다.
+ */
+public final class ConsistentHashRing {
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5를 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Map<String, Integer> weights;
+    private final int virtualNodes;
+
+    /**
+     * @param weights      노드별 가중치 (1 이상, 순서와 관계없이 같은 입력이면 같은 링)
+     * @param virtualNodes 가중치 1당 가상 노드 수
+     */
+    public ConsistentHashRing(Map<String, Integer> weights, int virtualNodes) {
+        if (weights == null || weights.isEmpty()) {
+            throw new IllegalArgumentException("해시 링에는 노드가 하나 이상 필요합니다.");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다: " + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+        this.weights = Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+
+        this.weights.forEach((node, weight) -> {
+            if (node == null || node.isBlank()) {
+                throw new IllegalArgumentException("노드 이름은 비어있을 수 없습니다.");
+            }
+            if (weight == null || weight < 1) {
+                throw new IllegalArgumentException("노드 " + node + "의 가중치는 1 이상이어야 합니다: " + weight);
+            }
+            for (int i = 0; i < virtualNodes * weight; i++) {
+                // 위치가 겹치면 이름이 작은 노드가 차지하도록 하여 입력 순서와 관계없이 같은 링을 만든다.
+                ring.merge(hash(node + "#" + i), node, (current, candidate) ->
+                        current.compareTo(candidate) <= 0 ? current : candidate);
+            }
+        });
+    }
+
+    /**
+     * 키를 배치할 노드
+     */
+    public String locate(String key) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * UUID 키를 배치할 노드 (문자열 표현으로 해시)
+     */
+    public String locate(UUID key) {
+        return locate(key.toString());
+    }
+
+    public Set<String> getNodes() {
+        return weights.keySet();
+    }
+
+    public int getWeight(String node) {
+        return weights.getOrDefault(node, 0);
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    /**
+     * MD5 다이제스트의 상위 64비트
+     */
+    static long hash(String value) {
+        MessageDigest digest = MD5.get();
+        digest.reset();
+        byte[] bytes = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (bytes[i] & 0xFF);
+        }
+        return hash;
+    }
+}
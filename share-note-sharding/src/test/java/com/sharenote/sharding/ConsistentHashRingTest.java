@@ -0,0 +1,106 @@
+package com.sharenote.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final int KEY_COUNT = 100_000;
+    private static final int VIRTUAL_NODES = 160;
+
+    @Test
+    @DisplayName("같은 설정이면 입력 순서와 관계없이 같은 노드에 배치")
+    void locate_Success_Deterministic() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("legacy", 1);
+        weights.put("shard1", 1);
+        weights.put("shard2", 2);
+        Map<String, Integer> reversed = new LinkedHashMap<>();
+        reversed.put("shard2", 2);
+        reversed.put("shard1", 1);
+        reversed.put("legacy", 1);
+
+        ConsistentHashRing ring = new ConsistentHashRing(weights, VIRTUAL_NODES);
+        ConsistentHashRing other = new ConsistentHashRing(reversed, VIRTUAL_NODES);
+
+        for (UUID key : keys(10_000, 1L)) {
+            assertThat(other.locate(key)).isEqualTo(ring.locate(key));
+        }
+    }
+
+    @Test
+    @DisplayName("가중치가 같으면 고르게 배치")
+    void locate_Success_Balanced() {
+        ConsistentHashRing ring = new ConsistentHashRing(
+                Map.of("legacy", 1, "shard1", 1, "shard2", 1, "shard3", 1), VIRTUAL_NODES);
+
+        Map<String, Integer> counts = countByNode(ring, keys(KEY_COUNT, 2L));
+
+        assertThat(counts).containsOnlyKeys("legacy", "shard1", "shard2", "shard3");
+        counts.values().forEach(count ->
+                assertThat((double) count / KEY_COUNT).isBetween(0.20, 0.30));
+    }
+
+    @Test
+    @DisplayName("가중치에 비례하여 배치")
+    void locate_Success_Weighted() {
+        ConsistentHashRing ring = new ConsistentHashRing(Map.of("small", 1, "large", 3), VIRTUAL_NODES);
+
+        Map<String, Integer> counts = countByNode(ring, keys(KEY_COUNT, 3L));
+
+        assertThat((double) counts.get("large") / KEY_COUNT).isBetween(0.70, 0.80);
+    }
+
+    @Test
+    @DisplayName("노드 추가 시 새 노드 몫만 이동하고 기존 노드 사이 이동은 없음")
+    void locate_Success_MinimalMovementOnAdd() {
+        ConsistentHashRing before = new ConsistentHashRing(
+                Map.of("legacy", 1, "shard1", 1, "shard2", 1), VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(
+                Map.of("legacy", 1, "shard1", 1, "shard2", 1, "shard3", 1), VIRTUAL_NODES);
+
+        int moved = 0;
+        for (UUID key : keys(KEY_COUNT, 4L)) {
+            String previous = before.locate(key);
+            String current = after.locate(key);
+            if (!previous.equals(current)) {
+                moved++;
+                assertThat(current).isEqualTo("shard3");
+            }
+        }
+
+        // 이상적인 이동 비율은 1/4
+        assertThat((double) moved / KEY_COUNT).isBetween(0.20, 0.30);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 생성 시 거부")
+    void create_Fail_InvalidConfig() {
+        assertThatThrownBy(() -> new ConsistentHashRing(Map.of(), VIRTUAL_NODES))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConsistentHashRing(Map.of("shard1", 1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConsistentHashRing(Map.of("shard1", 0), VIRTUAL_NODES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<UUID> keys(int count, long seed) {
+        Random random = new Random(seed);
+        List<UUID> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return keys;
+    }
+
+    private static Map<String, Integer> countByNode(ConsistentHashRing ring, List<UUID> keys) {
+        Map<String, Integer> counts = new HashMap<>();
+        keys.forEach(key -> counts.merge(ring.locate(key), 1, Integer::sum));
+        return counts;
+    }
+}